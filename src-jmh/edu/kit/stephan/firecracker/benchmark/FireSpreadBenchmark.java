@@ -0,0 +1,129 @@
+package edu.kit.stephan.firecracker.benchmark;
+
+import edu.kit.stephan.firecracker.model.firebreaker.CardinalDirection;
+import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
+import edu.kit.stephan.firecracker.model.firebreaker.board.PackedCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class models the JMH comparison of the fire spread engines behind {@link GameBoard#executeRollFire}.
+ * The engine is chosen by a system property, when the game board is loaded, so every engine gets its own fork:
+ * the frontier engine, the bitboard engine with the scalar kernel and the bitboard engine with the vector kernel.
+ * Every roll starts at the same random board, which is restored before it, outside of the measured time.
+ * The benchmarks live in the separate source root src-jmh, so the game never needs JMH. To run them, compile src
+ * (and src-vector for the vector kernel) into the classes, then compile src-jmh against them with jmh-core
+ * and jmh-generator-annprocess on the class path and start {@code org.openjdk.jmh.Main FireSpreadBenchmark}.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FireSpreadBenchmark {
+    private static final long SEED = 42;
+    /*
+    The shares of the forest sections in percent, the rest of the board is dry forest.
+     */
+    private static final int PERCENT_OF_WET = 30;
+    private static final int PERCENT_OF_SMALL_FIRE = 2;
+    private static final int PERCENT_OF_BIG_FIRE = 1;
+    private static final int PERCENT = 100;
+
+    /**
+     * The number of rows and columns of the square game board.
+     */
+    @Param({"64", "512", "2048"})
+    public int length;
+
+    /**
+     * The direction of the roll.
+     */
+    @Param({"ALL_DIRECTIONS", "NORTH"})
+    public CardinalDirection cardinalDirection;
+
+    private GameBoard gameBoard;
+
+    /**
+     * Creates the random game board with a fire station in every corner.
+     */
+    @Setup(Level.Trial)
+    public void createGameBoard() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        byte[] cells = new byte[length * length];
+        for (int cell = 0; cell < cells.length; cell++) {
+            int percent = random.nextInt(PERCENT);
+            if (percent < PERCENT_OF_BIG_FIRE) {
+                cells[cell] = PackedCell.BIG_FIRE;
+            } else if (percent < PERCENT_OF_BIG_FIRE + PERCENT_OF_SMALL_FIRE) {
+                cells[cell] = PackedCell.SMALL_FIRE;
+            } else if (percent < PERCENT_OF_BIG_FIRE + PERCENT_OF_SMALL_FIRE + PERCENT_OF_WET) {
+                cells[cell] = PackedCell.WET;
+            } else {
+                cells[cell] = PackedCell.DRY;
+            }
+        }
+        cells[0] = PackedCell.ofFireStation('A');
+        cells[length * length - 1] = PackedCell.ofFireStation('B');
+        cells[length * (length - 1)] = PackedCell.ofFireStation('C');
+        cells[length - 1] = PackedCell.ofFireStation('D');
+        gameBoard = new GameBoard(length, length, cells);
+    }
+
+    /**
+     * Restores the initial board, so every roll spreads the same fire.
+     */
+    @Setup(Level.Invocation)
+    public void resetGameBoard() {
+        gameBoard.reset();
+    }
+
+    /**
+     * Rolls the fire with the frontier engine, which only touches the burning fields.
+     *
+     * @return if the game is lost, so the roll is not eliminated
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dfirecracker.engine=frontier")
+    public boolean rollFrontier() {
+        return gameBoard.executeRollFire(cardinalDirection);
+    }
+
+    /**
+     * Rolls the fire with the bitboard engine and the scalar kernel.
+     *
+     * @return if the game is lost, so the roll is not eliminated
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-Dfirecracker.engine=bitboard", "-Dfirecracker.vector=false"})
+    public boolean rollBitboardScalar() {
+        return gameBoard.executeRollFire(cardinalDirection);
+    }
+
+    /**
+     * Rolls the fire with the bitboard engine and the vector kernel, if src-vector was compiled.
+     *
+     * @return if the game is lost, so the roll is not eliminated
+     */
+    @Benchmark
+    @Fork(jvmArgsAppend = {"-Dfirecracker.engine=bitboard", "--add-modules", "jdk.incubator.vector"})
+    public boolean rollBitboardVector() {
+        return gameBoard.executeRollFire(cardinalDirection);
+    }
+}
@@ -0,0 +1,90 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class models the spread kernel, which handles as many words per step as the preferred vectors hold.
+ * It needs the incubating module jdk.incubator.vector to be compiled, so it is kept apart from the sources in src
+ * and compiled after them with {@code --add-modules jdk.incubator.vector} into the same classes.
+ * It is only created by {@link SpreadKernel#create(long[][], long[], int, int)}, if the module was added at runtime.
+ * The first and the last words of a row carry bits from outside the row, so they are handled one at a time.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class VectorSpreadKernel extends SpreadKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * Instantiates a new vector kernel over the bitsets of an engine.
+     *
+     * @param conditions  the bitsets of the conditions, indexed by their packed value
+     * @param increased   the bitset of the increased forest sections
+     * @param rowLength   the number of rows
+     * @param wordsPerRow the number of words of every row
+     */
+    public VectorSpreadKernel(long[][] conditions, long[] increased, int rowLength, int wordsPerRow) {
+        super(conditions, increased, rowLength, wordsPerRow);
+    }
+
+    @Override
+    public void collectIncrease(int directions, int fromRow, int toRow) {
+        boolean north = (directions & NORTH) != 0;
+        boolean east = (directions & EAST) != 0;
+        boolean south = (directions & SOUTH) != 0;
+        boolean west = (directions & WEST) != 0;
+        for (int row = fromRow; row < toRow; row++) {
+            int firstWord = row * wordsPerRow;
+            int endOfRow = firstWord + wordsPerRow;
+            collectIncreaseOfWord(directions, row, firstWord);
+            int word = firstWord + 1;
+            /*
+            The carry of the west is loaded from the next word, so a vector needs to end before the last word.
+             */
+            for (; word + SPECIES.length() < endOfRow; word += SPECIES.length()) {
+                LongVector bigFireOfWords = LongVector.fromArray(SPECIES, bigFire, word);
+                LongVector targets = LongVector.zero(SPECIES);
+                if (north && row + 1 < rowLength) {
+                    targets = targets.or(LongVector.fromArray(SPECIES, bigFire, word + wordsPerRow));
+                }
+                if (south && row > 0) targets = targets.or(LongVector.fromArray(SPECIES, bigFire, word - wordsPerRow));
+                if (east) {
+                    targets = targets.or(bigFireOfWords.lanewise(VectorOperators.LSHL, 1))
+                            .or(LongVector.fromArray(SPECIES, bigFire, word - 1)
+                                    .lanewise(VectorOperators.LSHR, LAST_BIT));
+                }
+                if (west) {
+                    targets = targets.or(bigFireOfWords.lanewise(VectorOperators.LSHR, 1))
+                            .or(LongVector.fromArray(SPECIES, bigFire, word + 1)
+                                    .lanewise(VectorOperators.LSHL, LAST_BIT));
+                }
+                targets.and(LongVector.fromArray(SPECIES, dry, word).or(LongVector.fromArray(SPECIES, wet, word)))
+                        .or(LongVector.fromArray(SPECIES, smallFire, word))
+                        .intoArray(increased, word);
+            }
+            for (; word < endOfRow; word++) {
+                collectIncreaseOfWord(directions, row, word);
+            }
+        }
+    }
+
+    @Override
+    public void applyIncrease(int fromWord, int toWord) {
+        int word = fromWord;
+        for (int end = fromWord + SPECIES.loopBound(toWord - fromWord); word < end; word += SPECIES.length()) {
+            LongVector increase = LongVector.fromArray(SPECIES, increased, word);
+            LongVector dryOfWords = LongVector.fromArray(SPECIES, dry, word);
+            LongVector wetOfWords = LongVector.fromArray(SPECIES, wet, word);
+            LongVector smallFireOfWords = LongVector.fromArray(SPECIES, smallFire, word);
+            LongVector.fromArray(SPECIES, bigFire, word).or(smallFireOfWords).intoArray(bigFire, word);
+            dryOfWords.and(increase).intoArray(smallFire, word);
+            dryOfWords.and(increase.not()).or(wetOfWords.and(increase)).intoArray(dry, word);
+            wetOfWords.and(increase.not()).intoArray(wet, word);
+        }
+        for (; word < toWord; word++) {
+            applyIncreaseOfWord(word);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package edu.kit.stephan.firecracker;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.stephan.firecracker.core.Input;
+import edu.kit.stephan.firecracker.core.ReaderInput;
+import edu.kit.stephan.firecracker.model.firebreaker.board.BinaryBoardFormat;
+import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
+import edu.kit.stephan.firecracker.model.resources.Errors;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
+import edu.kit.stephan.firecracker.simulation.MonteCarloSimulator;
+import edu.kit.stephan.firecracker.simulation.RandomPlayerPolicy;
+import edu.kit.stephan.firecracker.view.Session;
+import edu.kit.stephan.firecracker.view.board.BoardSource;
+import edu.kit.stephan.firecracker.view.board.GameBoardParser;
+import edu.kit.stephan.firecracker.view.board.MappedBoardSource;
+import edu.kit.stephan.firecracker.view.board.StringBoardSource;
+import edu.kit.stephan.firecracker.view.command.CommandJournal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * This class models the command-line arguments of the application.
+ * A single argument is the game board. Otherwise the game board is given either as an argument,
+ * by --board-file path or by --board-bin path, and the options may be followed by --commands path,
+ * which runs the commands of the file (or of the standard input for "-") in batch mode, and by --pipelined,
+ * which reads and parses the commands on their own thread. --replay path rebuilds the game out of a journal
+ * before it starts and --journal path writes the commands into a journal. If both are given, they have to name
+ * the same journal, which is continued after the replay. --checkpoint-every number sets the number of journaled
+ * commands between two checkpoints of the journal, 0 turns them off. --simulate number plays that many games
+ * with random players and fire rolls instead of running commands, --seed number sets the seed of the simulation.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public final class StartupArguments {
+    /**
+     * The option, which reads the game board out of a file.
+     */
+    public static final String BOARD_FILE = "--board-file";
+    /**
+     * The option, which loads the game board out of a binary file.
+     */
+    public static final String BOARD_BINARY = "--board-bin";
+    /**
+     * The option, which reads the commands out of a file in batch mode.
+     */
+    public static final String COMMANDS = "--commands";
+    /**
+     * The option without a value, which reads and parses the commands on their own thread.
+     */
+    public static final String PIPELINED = "--pipelined";
+    /**
+     * The option, which writes the commands into a journal.
+     */
+    public static final String JOURNAL = "--journal";
+    /**
+     * The option, which replays a journal before the game starts.
+     */
+    public static final String REPLAY = "--replay";
+    /**
+     * The option, which sets the number of journaled commands between two checkpoints.
+     */
+    public static final String CHECKPOINT_EVERY = "--checkpoint-every";
+    /**
+     * The option, which plays a number of simulated games instead of running commands.
+     */
+    public static final String SIMULATE = "--simulate";
+    /**
+     * The option, which sets the seed of the simulated games.
+     */
+    public static final String SEED = "--seed";
+    /**
+     * The path which stands for the standard input.
+     */
+    public static final String STANDARD_INPUT = "-";
+    private static final String OPTION_PREFIX = "--";
+    private static final int INPUT_BUFFER_SIZE = 1 << 20;
+
+    private String board;
+    private Path boardFile;
+    private Path boardBinary;
+    private String commands;
+    private boolean pipelined;
+    private Path journal;
+    private Path replay;
+    private int recordsPerCheckpoint = CommandJournal.DEFAULT_RECORDS_PER_CHECKPOINT;
+    private int numberOfBoards;
+    private int numberOfSimulatedGames;
+    private long seed;
+
+    private StartupArguments() {
+    }
+
+    /**
+     * Parses the command-line arguments.
+     *
+     * @param args the command-line arguments
+     * @return the parsed arguments
+     * @throws SyntaxException if the arguments are wrong
+     */
+    public static StartupArguments parse(String[] args) throws SyntaxException {
+        StartupArguments startupArguments = new StartupArguments();
+        if (args.length == 1) {
+            startupArguments.board = args[0];
+            return startupArguments;
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith(OPTION_PREFIX)) {
+                startupArguments.board = args[i];
+                startupArguments.numberOfBoards++;
+                continue;
+            }
+            if (args[i].equals(PIPELINED)) {
+                startupArguments.pipelined = true;
+                continue;
+            }
+            if (i + 1 == args.length) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+            startupArguments.parseOption(args[i], args[++i]);
+        }
+        if (startupArguments.numberOfBoards != 1) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        if (startupArguments.isSimulation() && (startupArguments.commands != null || startupArguments.pipelined
+                || startupArguments.journal != null || startupArguments.replay != null)) {
+            throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        }
+        /*
+        Another journal would start at the replayed game instead of the game board, so it could not be replayed.
+         */
+        if (startupArguments.journal != null && startupArguments.replay != null && !startupArguments.journal
+                .toAbsolutePath().normalize().equals(startupArguments.replay.toAbsolutePath().normalize())) {
+            throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        }
+        return startupArguments;
+    }
+
+    /**
+     * Loads the game board out of the argument or the file.
+     *
+     * @return the parsed game board
+     * @throws SyntaxException if the game board could not be read or is not valid
+     */
+    public GameBoard loadGameBoard() throws SyntaxException {
+        if (boardBinary == null) return new GameBoardParser(createBoardSource()).parseGameBoard();
+        /*
+        The binary format is only written for validated boards, so it is only checked for damage.
+         */
+        try {
+            return BinaryBoardFormat.read(boardBinary);
+        } catch (IOException e) {
+            throw new SyntaxException(Errors.BOARD_FILE_NOT_READABLE);
+        }
+    }
+
+    /**
+     * Method to return if the commands are run in batch mode.
+     *
+     * @return true -> if the commands are read out of a file or the standard input given by --commands
+     */
+    public boolean isBatch() {
+        return commands != null;
+    }
+
+    /**
+     * Method to return if the commands are read and parsed on their own thread.
+     *
+     * @return true -> if --pipelined was given
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Method to return if games are simulated instead of running commands.
+     *
+     * @return true -> if --simulate was given
+     */
+    public boolean isSimulation() {
+        return numberOfSimulatedGames > 0;
+    }
+
+    /**
+     * Creates the simulator of the games given by --simulate and --seed.
+     *
+     * @return the simulator, in which every player plays randomly
+     */
+    public MonteCarloSimulator createSimulator() {
+        return new MonteCarloSimulator(numberOfSimulatedGames, seed, new RandomPlayerPolicy());
+    }
+
+    /**
+     * Creates the input of the commands.
+     *
+     * @return the terminal in interactive mode, a large buffered reader in batch mode
+     * @throws SyntaxException if the file of the commands could not be opened
+     */
+    public Input createInput() throws SyntaxException {
+        if (commands == null) return Terminal::readLine;
+        if (commands.equals(STANDARD_INPUT)) {
+            return new ReaderInput(new BufferedReader(new InputStreamReader(System.in), INPUT_BUFFER_SIZE));
+        }
+        try {
+            return new ReaderInput(new BufferedReader(new InputStreamReader(Files.newInputStream(Path.of(commands)))
+                    , INPUT_BUFFER_SIZE));
+        } catch (IOException | InvalidPathException e) {
+            throw new SyntaxException(Errors.COMMAND_FILE_NOT_READABLE);
+        }
+    }
+
+    /**
+     * Replays and starts the journals of the session.
+     *
+     * @param session the session, which was not started yet
+     * @throws SyntaxException if a journal could not be replayed or opened
+     */
+    public void prepareSession(Session session) throws SyntaxException {
+        long lengthOfReplay = replay == null ? 0 : session.replay(replay);
+        if (journal != null) session.startJournal(journal, lengthOfReplay, recordsPerCheckpoint);
+    }
+
+    private void parseOption(String option, String value) throws SyntaxException {
+        switch (option) {
+            case BOARD_FILE:
+                boardFile = parsePath(value);
+                numberOfBoards++;
+                break;
+            case BOARD_BINARY:
+                boardBinary = parsePath(value);
+                numberOfBoards++;
+                break;
+            case JOURNAL:
+                if (journal != null) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+                journal = parsePath(value);
+                break;
+            case REPLAY:
+                if (replay != null) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+                replay = parsePath(value);
+                break;
+            case CHECKPOINT_EVERY:
+                recordsPerCheckpoint = parseNonNegativeNumber(value);
+                break;
+            case SIMULATE:
+                if (isSimulation()) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+                numberOfSimulatedGames = parseNonNegativeNumber(value);
+                if (numberOfSimulatedGames == 0) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+                break;
+            case SEED:
+                seed = parseSeed(value);
+                break;
+            case COMMANDS:
+                if (commands != null) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+                commands = value;
+                break;
+            default:
+                throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        }
+    }
+
+    private static int parseNonNegativeNumber(String value) throws SyntaxException {
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        }
+        if (number < 0) throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        return number;
+    }
+
+    private static Path parsePath(String value) throws SyntaxException {
+        try {
+            return Path.of(value);
+        } catch (InvalidPathException e) {
+            throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        }
+    }
+
+    private static long parseSeed(String value) throws SyntaxException {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new SyntaxException(Errors.PARAMETERS_ARE_WRONG);
+        }
+    }
+
+    private BoardSource createBoardSource() throws SyntaxException {
+        if (board != null) return new StringBoardSource(board);
+        try {
+            return new MappedBoardSource(boardFile);
+        } catch (IOException e) {
+            throw new SyntaxException(Errors.BOARD_FILE_NOT_READABLE);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package edu.kit.stephan.firecracker.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * This class models a writer thread, which writes the messages of its outputs into a writer.
+ * The outputs only put their messages into a bounded queue, the writer thread takes every queued message at once
+ * and writes them in one batch. If the queue is full, the outputs wait until there is room again.
+ * Every output of one writer shares the queue, so the order of their messages is kept.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class AsyncOutputWriter {
+    private static final int CAPACITY_OF_QUEUE = 1 << 10;
+    private static final int SIZE_OF_CHUNK = 1 << 13;
+    private static final String NAME_OF_THREAD = "output-writer";
+    /*
+    Compared by identity, so no message can be mistaken for the end.
+     */
+    private static final CharSequence END_OF_OUTPUT = new StringBuilder();
+
+    private final BlockingQueue<CharSequence> queue;
+    private final Writer writer;
+    private final boolean flushWhenIdle;
+    private final Thread writerThread;
+    private volatile IOException failure;
+
+    /**
+     * Instantiates a new async output writer and starts its writer thread.
+     *
+     * @param writer        the writer, which should be buffered
+     * @param flushWhenIdle true -> if the writer is flushed whenever the queue is empty,
+     *                      false -> if it is only flushed when its buffer is full and at the end
+     */
+    public AsyncOutputWriter(Writer writer, boolean flushWhenIdle) {
+        this.queue = new ArrayBlockingQueue<>(CAPACITY_OF_QUEUE);
+        this.writer = writer;
+        this.flushWhenIdle = flushWhenIdle;
+        this.writerThread = new Thread(this::writeMessages, NAME_OF_THREAD);
+        writerThread.start();
+    }
+
+    /**
+     * Creates an output, which writes a prefix in front of every message and a line separator after it.
+     * Renderables are rendered by the calling thread and queued in chunks.
+     *
+     * @param prefix the prefix of every message
+     * @return the output
+     */
+    public Output createOutput(String prefix) {
+        return new QueuedOutput(prefix);
+    }
+
+    /**
+     * Writes every queued message, flushes the writer and stops the writer thread.
+     *
+     * @throws UncheckedIOException if a message could not be written
+     */
+    public void close() {
+        put(END_OF_OUTPUT);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException(NAME_OF_THREAD));
+        }
+        if (failure != null) throw new UncheckedIOException(failure);
+    }
+
+    private void put(CharSequence message) {
+        try {
+            queue.put(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException(NAME_OF_THREAD));
+        }
+    }
+
+    private void writeMessages() {
+        List<CharSequence> batch = new ArrayList<>(CAPACITY_OF_QUEUE);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                for (CharSequence message : batch) {
+                    if (message == END_OF_OUTPUT) {
+                        write(null);
+                        return;
+                    }
+                    write(message);
+                }
+                batch.clear();
+                if (flushWhenIdle && queue.isEmpty()) write(null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+    Writes a message or flushes for null. After the first failure everything is dropped,
+    so the outputs never wait for a writer, which does not write anymore.
+     */
+    private void write(CharSequence message) {
+        if (failure != null) return;
+        try {
+            if (message == null) {
+                writer.flush();
+            } else {
+                writer.append(message);
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * This class models an output of the async output writer.
+     */
+    private final class QueuedOutput implements Output {
+        private final String prefix;
+
+        private QueuedOutput(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public void output(String string) {
+            put(prefix + string + System.lineSeparator());
+        }
+
+        @Override
+        public void render(Renderable renderable) {
+            ChunkedMessage message = new ChunkedMessage();
+            try {
+                message.append(prefix);
+                renderable.renderTo(message);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            message.append(System.lineSeparator());
+            message.putRemaining();
+        }
+    }
+
+    /**
+     * This class models a message, which is queued in chunks while it is rendered.
+     */
+    private final class ChunkedMessage implements Appendable {
+        private final StringBuilder chunk = new StringBuilder(SIZE_OF_CHUNK);
+
+        @Override
+        public Appendable append(CharSequence sequence) {
+            chunk.append(sequence);
+            putFullChunk();
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence sequence, int start, int end) {
+            chunk.append(sequence, start, end);
+            putFullChunk();
+            return this;
+        }
+
+        @Override
+        public Appendable append(char character) {
+            chunk.append(character);
+            putFullChunk();
+            return this;
+        }
+
+        private void putFullChunk() {
+            if (chunk.length() >= SIZE_OF_CHUNK) putRemaining();
+        }
+
+        private void putRemaining() {
+            if (chunk.length() == 0) return;
+            put(chunk.toString());
+            chunk.setLength(0);
+        }
+    }
+}
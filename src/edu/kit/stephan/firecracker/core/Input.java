@@ -13,7 +13,7 @@ public interface Input {
      * Reads a string from the input. The method should block until the next
      * input is available.
      *
-     * @return the next input string.
+     * @return the next input string or {@code null} if the input has ended.
      */
     String read();
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package edu.kit.stephan.firecracker.core;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * This interface describes an output.
  *
@@ -16,5 +19,19 @@ public interface Output {
      */
     void output(String string);
 
-
-}
\ No newline at end of file
+    /**
+     * Outputs the given renderable.
+     * By default it is rendered into a string first, outputs backed by a stream should write it directly.
+     *
+     * @param renderable the renderable to output
+     */
+    default void render(Renderable renderable) {
+        StringBuilder rendered = new StringBuilder();
+        try {
+            renderable.renderTo(rendered);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        output(rendered.toString());
+    }
+}
@@ -0,0 +1,34 @@
+package edu.kit.stephan.firecracker.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * This class models an input, which reads line by line out of a buffered reader.
+ * At the end of the reader {@code null} is returned.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class ReaderInput implements Input {
+    private final BufferedReader reader;
+
+    /**
+     * Instantiates a new reader input.
+     *
+     * @param reader the reader to read the lines from
+     */
+    public ReaderInput(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public String read() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
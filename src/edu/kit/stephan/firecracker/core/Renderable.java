@@ -0,0 +1,22 @@
+package edu.kit.stephan.firecracker.core;
+
+import java.io.IOException;
+
+/**
+ * This interface describes something, which writes its own string representation into a sink.
+ * It is used for big outputs, so they are streamed instead of being built as one string.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Renderable {
+
+    /**
+     * Writes the string representation into the given sink, without a terminating line separator.
+     *
+     * @param sink the sink to write to
+     * @throws IOException if the sink could not be written
+     */
+    void renderTo(Appendable sink) throws IOException;
+}
@@ -0,0 +1,91 @@
+package edu.kit.stephan.firecracker.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class models a bounded lock-free queue for exactly one producing and one consuming thread.
+ * The elements are kept in a ring buffer, the producer only writes the tail and the consumer only writes the head.
+ * A full or empty queue is waited on by spinning shortly and then parking.
+ *
+ * @param <T> the type of the elements
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class SingleProducerSingleConsumerQueue<T> {
+    private static final int SPINS_BEFORE_PARKING = 1 << 10;
+    private static final long PARKING_NANOS = 1 << 16;
+
+    private final Object[] elements;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    /*
+    Only read by the producer, the last head it has seen.
+     */
+    private long cachedHead;
+    /*
+    Only read by the consumer, the last tail it has seen.
+     */
+    private long cachedTail;
+
+    /**
+     * Instantiates a new empty queue.
+     *
+     * @param capacity the maximum number of elements, which needs to be a power of two
+     */
+    public SingleProducerSingleConsumerQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity needs to be a power of two.");
+        }
+        this.elements = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Puts an element at the end of the queue, waits while the queue is full.
+     * May only be called by the producing thread.
+     *
+     * @param element the element, which must not be {@code null}
+     */
+    public void put(T element) {
+        long currentTail = tail.get();
+        int spins = 0;
+        while (currentTail - cachedHead == elements.length) {
+            cachedHead = head.get();
+            if (currentTail - cachedHead == elements.length) spins = idle(spins);
+        }
+        elements[(int) currentTail & mask] = element;
+        tail.lazySet(currentTail + 1);
+    }
+
+    /**
+     * Takes the element at the front of the queue, waits while the queue is empty.
+     * May only be called by the consuming thread.
+     *
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    public T take() {
+        long currentHead = head.get();
+        int spins = 0;
+        while (currentHead == cachedTail) {
+            cachedTail = tail.get();
+            if (currentHead == cachedTail) spins = idle(spins);
+        }
+        int index = (int) currentHead & mask;
+        T element = (T) elements[index];
+        elements[index] = null;
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    private static int idle(int spins) {
+        if (spins < SPINS_BEFORE_PARKING) {
+            Thread.onSpinWait();
+            return spins + 1;
+        }
+        LockSupport.parkNanos(PARKING_NANOS);
+        return spins;
+    }
+}
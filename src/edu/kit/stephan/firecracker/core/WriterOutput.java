@@ -0,0 +1,89 @@
+package edu.kit.stephan.firecracker.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * This class models an output, which writes every message followed by a line separator into a writer.
+ * Renderables are streamed into the writer, so big outputs never exist as one string.
+ * The writer is either flushed after every message or only when its buffer is full, see {@link #flush()}.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class WriterOutput implements Output {
+    private final Writer writer;
+    private final String prefix;
+    private final boolean flushEveryMessage;
+
+    /**
+     * Instantiates a new writer output.
+     *
+     * @param writer the writer, which should be buffered
+     */
+    public WriterOutput(Writer writer) {
+        this(writer, "");
+    }
+
+    /**
+     * Instantiates a new writer output, which writes a prefix in front of every message.
+     *
+     * @param writer the writer, which should be buffered
+     * @param prefix the prefix of every message
+     */
+    public WriterOutput(Writer writer, String prefix) {
+        this(writer, prefix, true);
+    }
+
+    /**
+     * Instantiates a new writer output, which writes a prefix in front of every message.
+     *
+     * @param writer            the writer, which should be buffered
+     * @param prefix            the prefix of every message
+     * @param flushEveryMessage true -> if the writer is flushed after every message
+     */
+    public WriterOutput(Writer writer, String prefix, boolean flushEveryMessage) {
+        this.writer = writer;
+        this.prefix = prefix;
+        this.flushEveryMessage = flushEveryMessage;
+    }
+
+    @Override
+    public void output(String string) {
+        try {
+            writer.write(prefix);
+            writer.write(string);
+            endMessage();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void render(Renderable renderable) {
+        try {
+            writer.write(prefix);
+            renderable.renderTo(writer);
+            endMessage();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes every message, which is still buffered.
+     */
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void endMessage() throws IOException {
+        writer.write(System.lineSeparator());
+        if (flushEveryMessage) writer.flush();
+    }
+}
@@ -0,0 +1,101 @@
+package edu.kit.stephan.firecracker.model.firebreaker;
+
+import java.util.Arrays;
+
+/**
+ * This class models a reusable buffer of actions, which the current player may perform.
+ * Every action is kept as its type, the fire brigade performing it and its packed position in parallel arrays,
+ * so filling the buffer again creates no objects once it is big enough.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class ActionBuffer {
+    /**
+     * The packed position of an action, which has no position.
+     */
+    public static final long NO_POSITION = -1;
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final ActionType[] ACTION_TYPES = ActionType.values();
+
+    private byte[] types;
+    private FireBrigade[] fireBrigades;
+    private long[] packedPositions;
+    private int size;
+
+    /**
+     * Instantiates a new empty action buffer.
+     */
+    public ActionBuffer() {
+        this.types = new byte[DEFAULT_CAPACITY];
+        this.fireBrigades = new FireBrigade[DEFAULT_CAPACITY];
+        this.packedPositions = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Removes every action.
+     */
+    public void clear() {
+        Arrays.fill(fireBrigades, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Adds an action.
+     *
+     * @param type           the type of the action
+     * @param fireBrigade    the fire brigade performing the action or {@code null} if there is none
+     * @param packedPosition the packed position of the action or {@link #NO_POSITION} if there is none
+     */
+    public void add(ActionType type, FireBrigade fireBrigade, long packedPosition) {
+        if (size == types.length) {
+            types = Arrays.copyOf(types, 2 * size);
+            fireBrigades = Arrays.copyOf(fireBrigades, 2 * size);
+            packedPositions = Arrays.copyOf(packedPositions, 2 * size);
+        }
+        types[size] = (byte) type.ordinal();
+        fireBrigades[size] = fireBrigade;
+        packedPositions[size] = packedPosition;
+        size++;
+    }
+
+    /**
+     * Gets the number of actions.
+     *
+     * @return the number of actions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the type of an action.
+     *
+     * @param index the index of the action
+     * @return the type of the action
+     */
+    public ActionType getType(int index) {
+        return ACTION_TYPES[types[index]];
+    }
+
+    /**
+     * Gets the fire brigade performing an action.
+     *
+     * @param index the index of the action
+     * @return the fire brigade or {@code null} for turn, fire-to-roll and buy-fire-engine
+     */
+    public FireBrigade getFireBrigade(int index) {
+        return fireBrigades[index];
+    }
+
+    /**
+     * Gets the packed position of an action.
+     *
+     * @param index the index of the action
+     * @return the packed position of move, extinguish and buy-fire-engine, {@link #NO_POSITION} otherwise
+     * @see Position#unpack(long)
+     */
+    public long getPackedPosition(int index) {
+        return packedPositions[index];
+    }
+}
@@ -0,0 +1,34 @@
+package edu.kit.stephan.firecracker.model.firebreaker;
+
+/**
+ * This enum describes the types of the actions, which the current player may perform.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public enum ActionType {
+    /**
+     * Moves a fire brigade to a position.
+     */
+    MOVE,
+    /**
+     * Extinguishes a position with a fire brigade.
+     */
+    EXTINGUISH,
+    /**
+     * Refills the tank of a fire brigade.
+     */
+    REFILL,
+    /**
+     * Buys a fire engine on a position next to the base of the current player.
+     */
+    BUY_FIRE_ENGINE,
+    /**
+     * Ends the turn of the current player.
+     */
+    TURN,
+    /**
+     * Rolls the fire, the only action at the end of a round.
+     */
+    FIRE_TO_ROLL
+}
@@ -1,8 +1,6 @@
 package edu.kit.stephan.firecracker.model.firebreaker;
 
 import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * This enum models a Cardinal Direction.
@@ -15,85 +13,53 @@ public enum CardinalDirection {
     /**
      * All directions
      */
-    ALL_DIRECTIONS(1) {
-
-        @Override
-        public List<Position> getNeighbours(Position position) {
-            List<Position> positions = new LinkedList<>();
-            positions.add(new Position(position.getXCoordinate() - 1, position.getYCoordinate()));
-            positions.add(new Position(position.getXCoordinate(), position.getYCoordinate() + 1));
-            positions.add(new Position(position.getXCoordinate() + 1, position.getYCoordinate()));
-            positions.add(new Position(position.getXCoordinate(), position.getYCoordinate() - 1));
-
-            return positions;
-        }
-    },
+    ALL_DIRECTIONS(1, new int[] {-1, 0, 1, 0}, new int[] {0, 1, 0, -1}),
     /**
      * North cardinal direction.
      */
-    NORTH(2) {
-        @Override
-        public List<Position> getNeighbours(Position position) {
-            List<Position> positions = new LinkedList<>();
-            positions.add(new Position(position.getXCoordinate() - 1, position.getYCoordinate()));
-            return positions;
-        }
-    },
+    NORTH(2, new int[] {-1}, new int[] {0}),
 
     /**
      * East cardinal direction.
      */
-    EAST(3) {
-        @Override
-        public List<Position> getNeighbours(Position position) {
-            List<Position> positions = new LinkedList<>();
-            positions.add(new Position(position.getXCoordinate(), position.getYCoordinate() + 1));
-            return positions;
-        }
-    },
+    EAST(3, new int[] {0}, new int[] {1}),
 
     /**
      * South cardinal direction.
      */
-    SOUTH(4) {
-        @Override
-        public List<Position> getNeighbours(Position position) {
-            List<Position> positions = new LinkedList<>();
-            positions.add(new Position(position.getXCoordinate() + 1, position.getYCoordinate()));
-            return positions;
-        }
-    },
+    SOUTH(4, new int[] {1}, new int[] {0}),
 
     /**
      * West cardinal direction.
      */
-    WEST(5) {
-        @Override
-        public List<Position> getNeighbours(Position position) {
-            List<Position> positions = new LinkedList<>();
-            positions.add(new Position(position.getXCoordinate(), position.getYCoordinate() - 1));
-            return positions;
-        }
-    },
+    WEST(5, new int[] {0}, new int[] {-1}),
 
     /**
      * None
      */
-    NONE(6) {
-        @Override
-        public List<Position> getNeighbours(Position position) {
-            return new LinkedList<>();
-        }
-    };
+    NONE(6, new int[0], new int[0]);
 
     private final int directionNumber;
+    /*
+    Offsets of the neighbours in this direction, without and with the diagonal neighbours.
+     */
+    private final int[] rowOffsets;
+    private final int[] columnOffsets;
+    private final int[] rowOffsetsWithCorners;
+    private final int[] columnOffsetsWithCorners;
 
     /**
      * Constructor of a Cardinal Direction
      * @param directionNumber a number which represents the cardinal direction
+     * @param rowOffsets the offsets of the x-coordinates of the neighbours in this direction
+     * @param columnOffsets the offsets of the y-coordinates of the neighbours in this direction
      */
-    CardinalDirection(int directionNumber) {
+    CardinalDirection(int directionNumber, int[] rowOffsets, int[] columnOffsets) {
         this.directionNumber = directionNumber;
+        this.rowOffsets = rowOffsets;
+        this.columnOffsets = columnOffsets;
+        this.rowOffsetsWithCorners = appendOffsets(rowOffsets, new int[] {1, 1, -1, -1});
+        this.columnOffsetsWithCorners = appendOffsets(columnOffsets, new int[] {1, -1, 1, -1});
     }
 
     /**
@@ -106,11 +72,22 @@ public enum CardinalDirection {
     }
 
     /**
-     * Gets the Neighbours of a position which is associated to the cardinal direction.
-     * @param position the position to get the neighbours.
-     * @return a List of Positions which are valid neighbours.
+     * Gets the offsets of the x-coordinates of the neighbours which are associated to the cardinal direction.
+     * @param allowCorners boolean to represent if the diagonal neighbours should be included.
+     * @return the offsets, which must not be modified.
+     */
+    int[] getRowOffsets(boolean allowCorners) {
+        return allowCorners ? rowOffsetsWithCorners : rowOffsets;
+    }
+
+    /**
+     * Gets the offsets of the y-coordinates of the neighbours which are associated to the cardinal direction.
+     * @param allowCorners boolean to represent if the diagonal neighbours should be included.
+     * @return the offsets, which must not be modified.
      */
-    public abstract List<Position> getNeighbours(Position position);
+    int[] getColumnOffsets(boolean allowCorners) {
+        return allowCorners ? columnOffsetsWithCorners : columnOffsets;
+    }
 
     /**
      * Find direction through integer cardinal direction.
@@ -123,4 +100,10 @@ public enum CardinalDirection {
                 .filter(cardinalDirection -> cardinalDirection.getDirectionNumber() == directionNumber)
                 .findFirst().orElse(null);
     }
+
+    private static int[] appendOffsets(int[] offsets, int[] offsetsToAppend) {
+        int[] output = Arrays.copyOf(offsets, offsets.length + offsetsToAppend.length);
+        System.arraycopy(offsetsToAppend, 0, output, offsets.length, offsetsToAppend.length);
+        return output;
+    }
 }
@@ -2,9 +2,11 @@ package edu.kit.stephan.firecracker.model.firebreaker;
 
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -19,10 +21,14 @@ public class FireBrigade implements Comparable<FireBrigade> {
     private static final String TO_STRING = "%s,%s,%s,%s,%s";
     private final String uniqueIdentifier;
     private int tankFilling;
-    private Position positionOfFireStation;
+    private long positionOfFireStation;
     private int actionPoints;
     private boolean performedAction;
-    private final List<Position> positionsWhichWereExtinguished;
+    /*
+    Packed positions, every extinguish costs an action point, so there can not be more than the default amount.
+     */
+    private final long[] positionsWhichWereExtinguished;
+    private int numberOfPositionsWhichWereExtinguished;
     private boolean isBurning;
 
 
@@ -37,7 +43,7 @@ public class FireBrigade implements Comparable<FireBrigade> {
         this.actionPoints = DEFAULT_ACTION_POINTS;
         performedAction = false;
         isBurning = false;
-        positionsWhichWereExtinguished = new LinkedList<>();
+        positionsWhichWereExtinguished = new long[DEFAULT_ACTION_POINTS];
     }
 
     /**
@@ -65,6 +71,39 @@ public class FireBrigade implements Comparable<FireBrigade> {
     }
 
 
+    /**
+     * Method to determine if the fire brigade may still move, see {@link #moveAllowed()}.
+     *
+     * @return true -> if it has action points left and did not perform an action yet
+     */
+    public boolean canMove() {
+        return actionPoints > 0 && !performedAction;
+    }
+
+    /**
+     * Method to determine if the fire brigade may extinguish a position in its range,
+     * see {@link #extinguishValid(Position)}.
+     *
+     * @param packedPosition the packed position to extinguish
+     * @return true -> if it has action points and water left and did not extinguish the position yet
+     */
+    public boolean canExtinguish(long packedPosition) {
+        if (actionPoints == 0 || tankFilling == 0) return false;
+        for (int i = 0; i < numberOfPositionsWhichWereExtinguished; i++) {
+            if (positionsWhichWereExtinguished[i] == packedPosition) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Method to determine if the fire brigade may refill next to a refill station, see {@link #refillFireBrigade()}.
+     *
+     * @return true -> if it has action points left and its tank is not full
+     */
+    public boolean canRefill() {
+        return actionPoints > 0 && tankFilling < CAPACITY_OF_TANK;
+    }
+
     /**
      * Gets unique identifier.
      *
@@ -80,7 +119,7 @@ public class FireBrigade implements Comparable<FireBrigade> {
      * @param positionOfFireStation the new position of fire station
      */
     public void setPositionOfFireStation(Position positionOfFireStation) {
-        this.positionOfFireStation = positionOfFireStation;
+        this.positionOfFireStation = positionOfFireStation.pack();
     }
 
     /**
@@ -106,8 +145,11 @@ public class FireBrigade implements Comparable<FireBrigade> {
      * @throws SemanticsException if the position was already extinguished or the tank is empty.
      */
     public void extinguishValid(Position positionWhichNeedsToBeExtinguish) throws SemanticsException {
-        if (positionsWhichWereExtinguished.contains(positionWhichNeedsToBeExtinguish))
-            throw new SemanticsException(Errors.POSITION_WAS_ALREADY_EXTINGUISHED);
+        long packedPosition = positionWhichNeedsToBeExtinguish.pack();
+        for (int i = 0; i < numberOfPositionsWhichWereExtinguished; i++) {
+            if (positionsWhichWereExtinguished[i] == packedPosition)
+                throw new SemanticsException(Errors.POSITION_WAS_ALREADY_EXTINGUISHED);
+        }
         if (tankFilling > 0) return;
         throw new SemanticsException(Errors.TANK_IS_EMPTY);
     }
@@ -119,7 +161,7 @@ public class FireBrigade implements Comparable<FireBrigade> {
      */
     public void extinguishFire(Position positionWhichWasExtinguished) {
         tankFilling--;
-        positionsWhichWereExtinguished.add(positionWhichWasExtinguished);
+        positionsWhichWereExtinguished[numberOfPositionsWhichWereExtinguished++] = positionWhichWasExtinguished.pack();
         performedAction = true;
         actionPoints--;
     }
@@ -137,7 +179,7 @@ public class FireBrigade implements Comparable<FireBrigade> {
 
 
     private void clearExtinguishList() {
-        positionsWhichWereExtinguished.clear();
+        numberOfPositionsWhichWereExtinguished = 0;
     }
 
     /**
@@ -164,7 +206,17 @@ public class FireBrigade implements Comparable<FireBrigade> {
      * @return the position of fire brigade
      */
     public Position getPositionOfFireBrigade() {
-        return new Position(positionOfFireStation.getXCoordinate(), positionOfFireStation.getYCoordinate());
+        return Position.unpack(positionOfFireStation);
+    }
+
+    /**
+     * Gets the packed position of fire brigade.
+     *
+     * @return the packed position of fire brigade
+     * @see Position#pack(int, int)
+     */
+    public long getPackedPosition() {
+        return positionOfFireStation;
     }
 
     /**
@@ -176,10 +228,55 @@ public class FireBrigade implements Comparable<FireBrigade> {
         actionPoints = DEFAULT_ACTION_POINTS;
     }
 
+    /**
+     * Writes the whole state of the fire brigade into a checkpoint.
+     *
+     * @param output the output of the checkpoint
+     * @throws IOException if the checkpoint could not be written
+     */
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        output.writeUTF(uniqueIdentifier);
+        output.writeInt(tankFilling);
+        output.writeLong(positionOfFireStation);
+        output.writeInt(actionPoints);
+        output.writeBoolean(performedAction);
+        output.writeBoolean(isBurning);
+        output.writeInt(numberOfPositionsWhichWereExtinguished);
+        for (int i = 0; i < numberOfPositionsWhichWereExtinguished; i++) {
+            output.writeLong(positionsWhichWereExtinguished[i]);
+        }
+    }
+
+    /**
+     * Reads a fire brigade out of a checkpoint written by {@link #writeCheckpoint(DataOutput)}.
+     *
+     * @param input the input of the checkpoint
+     * @return the fire brigade
+     * @throws IOException     if the checkpoint could not be read
+     * @throws SyntaxException if the checkpoint is corrupt
+     */
+    public static FireBrigade readCheckpoint(DataInput input) throws IOException, SyntaxException {
+        FireBrigade fireBrigade = new FireBrigade(input.readUTF());
+        fireBrigade.tankFilling = input.readInt();
+        fireBrigade.positionOfFireStation = input.readLong();
+        fireBrigade.actionPoints = input.readInt();
+        fireBrigade.performedAction = input.readBoolean();
+        fireBrigade.isBurning = input.readBoolean();
+        int numberOfPositions = input.readInt();
+        if (numberOfPositions < 0 || numberOfPositions > DEFAULT_ACTION_POINTS) {
+            throw new SyntaxException(Errors.CHECKPOINT_IS_CORRUPT);
+        }
+        for (int i = 0; i < numberOfPositions; i++) {
+            fireBrigade.positionsWhichWereExtinguished[i] = input.readLong();
+        }
+        fireBrigade.numberOfPositionsWhichWereExtinguished = numberOfPositions;
+        return fireBrigade;
+    }
+
     @Override
     public String toString() {
         return String.format(TO_STRING, uniqueIdentifier, tankFilling, actionPoints
-                , positionOfFireStation.getXCoordinate(), positionOfFireStation.getYCoordinate());
+                , Position.unpackXCoordinate(positionOfFireStation), Position.unpackYCoordinate(positionOfFireStation));
     }
 
     @Override
@@ -1,13 +1,23 @@
 package edu.kit.stephan.firecracker.model.firebreaker;
 
 import edu.kit.stephan.firecracker.core.Output;
+import edu.kit.stephan.firecracker.core.Renderable;
 import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
 import edu.kit.stephan.firecracker.model.firebreaker.player.PlayerManagement;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
 import edu.kit.stephan.firecracker.core.Pair;
 import edu.kit.stephan.firecracker.core.Triple;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 
 /**
  * This class models a game handler of the fire breaker game.
@@ -22,7 +32,7 @@ public class GameHandlerFireBreaker {
      */
     public static final String VALID_COMMAND = "OK";
     private static final String VALID_EXTINGUISH = "%s,%d";
-    private GameBoard gameBoard;
+    private final GameBoard gameBoard;
     private boolean endOfRound;
     private boolean gameIsOver;
     private PlayerManagement playerManagement;
@@ -51,7 +61,7 @@ public class GameHandlerFireBreaker {
      * @return "OK" if the command succeeded.
      */
     public String resetGameCommand() {
-        gameBoard = gameBoard.getGameBoardCopied();
+        gameBoard.reset();
         this.playerManagement = new PlayerManagement(gameBoard.getRowLength(), gameBoard.getColumnLength());
         endOfRound = false;
         gameIsOver = false;
@@ -168,13 +178,61 @@ public class GameHandlerFireBreaker {
     /**
      * Performs the show-board Command and executes the necessary steps to execute the command.
      *
-     * @return the Board represented as String.
+     * @return the Board, which gets rendered when it is outputted.
+     */
+    public Renderable showBoardCommand() {
+        return gameBoard::render;
+    }
+
+    /**
+     * Performs the show-board Command for a rectangle of the board.
+     *
+     * @param upperLeft  the first field of the rectangle
+     * @param lowerRight the last field of the rectangle, inclusive
+     * @return the rectangle of the Board, which gets rendered when it is outputted.
+     * @throws SemanticsException if the rectangle is not inside the board.
+     */
+    public Renderable showBoardCommand(Position upperLeft, Position lowerRight) throws SemanticsException {
+        gameBoard.checkViewport(upperLeft, lowerRight);
+        return sink -> gameBoard.render(sink, upperLeft, lowerRight);
+    }
+
+    /**
+     * Performs the show-board-diff Command for an observer, which has not seen the board yet.
+     *
+     * @return the version and every field of the Board, which get rendered when they are outputted.
+     */
+    public Renderable showBoardDiffCommand() {
+        return gameBoard::renderAllFields;
+    }
+
+    /**
+     * Performs the show-board-diff Command and executes the necessary steps to execute the command.
+     *
+     * @param version the version of the board the observer has seen
+     * @return the version and the fields changed since then, which get rendered when they are outputted.
      */
-    public String showBoardCommand() {
-        return gameBoard.toString();
+    public Renderable showBoardDiffCommand(long version) {
+        return sink -> gameBoard.renderChangesSince(sink, version);
     }
 
 
+    /**
+     * Performs the save-board Command, which saves the board as it was at the start of the game.
+     *
+     * @param path the path of the file
+     * @return "OK" -> if the command was performed successfully.
+     * @throws SemanticsException if the file could not be written.
+     */
+    public String saveBoardCommand(Path path) throws SemanticsException {
+        try {
+            gameBoard.saveInitialState(path);
+        } catch (IOException e) {
+            throw new SemanticsException(Errors.BOARD_FILE_NOT_WRITABLE);
+        }
+        return VALID_COMMAND;
+    }
+
     /**
      * Performs the move Command and executes the necessary steps to execute the command.
      *
@@ -215,6 +273,103 @@ public class GameHandlerFireBreaker {
         return playerManagement.currentPlayerToString();
     }
 
+    /**
+     * Method to determine if the game is over.
+     *
+     * @return true -> if the game was won or lost.
+     */
+    public boolean isGameOver() {
+        return gameIsOver;
+    }
+
+    /**
+     * Method to determine if the game was won.
+     *
+     * @return true -> if the game is over and no field is burning anymore.
+     */
+    public boolean isGameWon() {
+        return gameIsOver && !gameBoard.isBurning();
+    }
+
+    /**
+     * Method to determine if the round ended and the fire needs to be rolled.
+     *
+     * @return true -> if only fire-to-roll is allowed.
+     */
+    public boolean needsToRoll() {
+        return endOfRound;
+    }
+
+    /**
+     * Gets the fire brigades of the current player, sorted by their identifier.
+     *
+     * @return an unmodifiable view of the fire brigades
+     */
+    public Set<FireBrigade> getFireBrigadesOfCurrentPlayer() {
+        return playerManagement.getFireBrigadesOfCurrentPlayer();
+    }
+
+    /**
+     * Writes every action, which the current player may perform now, into a buffer, so the commands do not need to
+     * be tried. At the end of a round this is only fire-to-roll, after the game is over there is no action.
+     * Otherwise these are the moves, extinguishes and refills of the fire brigades of the current player,
+     * the positions a fire engine may be bought on and turn.
+     *
+     * @param actions the buffer, which is cleared first
+     */
+    public void generateLegalActions(ActionBuffer actions) {
+        actions.clear();
+        if (gameIsOver) return;
+        if (endOfRound) {
+            actions.add(ActionType.FIRE_TO_ROLL, null, ActionBuffer.NO_POSITION);
+            return;
+        }
+        for (FireBrigade fireBrigade : playerManagement.getFireBrigadesOfCurrentPlayer()) {
+            if (fireBrigade.canMove()) gameBoard.addMoves(fireBrigade, actions);
+            gameBoard.addExtinguishes(fireBrigade, actions);
+            if (fireBrigade.canRefill() && gameBoard.isNextToRefillStation(fireBrigade.getPackedPosition())) {
+                actions.add(ActionType.REFILL, fireBrigade, ActionBuffer.NO_POSITION);
+            }
+        }
+        if (playerManagement.currentPlayerCanBuyFireBrigade()) {
+            gameBoard.addFireEnginePositions(playerManagement.getPositionOfCurrentPlayerBase(), actions);
+        }
+        actions.add(ActionType.TURN, null, ActionBuffer.NO_POSITION);
+    }
+
+    /**
+     * Writes the whole state of the game into a checkpoint: the round flags, the players with their fire brigades
+     * and the fields of the game board.
+     *
+     * @param output the output of the checkpoint
+     * @throws IOException if the checkpoint could not be written
+     */
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        output.writeBoolean(endOfRound);
+        output.writeBoolean(gameIsOver);
+        playerManagement.writeCheckpoint(output);
+        gameBoard.writeCheckpoint(output);
+    }
+
+    /**
+     * Replaces the whole state of the game with a checkpoint written by {@link #writeCheckpoint(DataOutput)}.
+     * If the checkpoint is corrupt, the game is left half restored and needs to be reset.
+     *
+     * @param input the input of the checkpoint
+     * @throws IOException     if the checkpoint could not be read
+     * @throws SyntaxException if the checkpoint is corrupt
+     */
+    public void readCheckpoint(DataInput input) throws IOException, SyntaxException {
+        endOfRound = input.readBoolean();
+        gameIsOver = input.readBoolean();
+        PlayerManagement restoredPlayerManagement
+                = new PlayerManagement(gameBoard.getRowLength(), gameBoard.getColumnLength());
+        Map<String, FireBrigade> fireBrigadesRead = new HashMap<>();
+        restoredPlayerManagement.readCheckpoint(input, fireBrigadesRead);
+        gameBoard.readCheckpoint(input, fireBrigadesRead);
+        playerManagement = restoredPlayerManagement;
+    }
+
     private FireBrigade searchBrigadeByString(String identifier) throws SemanticsException {
         return playerManagement.searchFireBrigade(identifier);
     }
@@ -0,0 +1,20 @@
+package edu.kit.stephan.firecracker.model.firebreaker;
+
+/**
+ * This interface describes a consumer of the coordinates of neighbouring positions.
+ * The coordinates are handed over as primitives, so visiting neighbours needs no allocation.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface NeighbourConsumer {
+
+    /**
+     * Consumes the coordinates of a neighbour.
+     *
+     * @param xCoordinate the x coordinate of the neighbour
+     * @param yCoordinate the y coordinate of the neighbour
+     */
+    void accept(int xCoordinate, int yCoordinate);
+}
@@ -3,10 +3,6 @@ package edu.kit.stephan.firecracker.model.firebreaker;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
-
 /**
  * This class represents a Position
  *
@@ -14,6 +10,12 @@ import java.util.Objects;
  * @version 1.0
  */
 public class Position {
+    /**
+     * The maximum number of neighbours of a position, if corners are allowed.
+     */
+    public static final int MAXIMUM_NUMBER_OF_NEIGHBOURS = 8;
+    private static final long LOWER_HALF = 0xFFFFFFFFL;
+    private static final int HASH_MULTIPLIER = 31;
     private final int xCoordinate;
     private final int yCoordinate;
 
@@ -48,14 +50,56 @@ public class Position {
     }
 
 
-    private List<Position> getDiagonalNeighbours() {
-        List<Position> outputNeighbours = new LinkedList<>();
-        outputNeighbours.add(new Position(xCoordinate + 1, yCoordinate + 1));
-        outputNeighbours.add(new Position(xCoordinate + 1, yCoordinate - 1));
-        outputNeighbours.add(new Position(xCoordinate - 1, yCoordinate + 1));
-        outputNeighbours.add(new Position(xCoordinate - 1, yCoordinate - 1));
+    /**
+     * Packs the coordinates of this position into a single long.
+     *
+     * @return the packed coordinates
+     * @see #pack(int, int)
+     */
+    public long pack() {
+        return pack(xCoordinate, yCoordinate);
+    }
+
+    /**
+     * Packs two coordinates into a single long, the x-coordinate into the upper and the y-coordinate into the lower
+     * half. So a position can be stored and compared without creating an object.
+     *
+     * @param xCoordinate the x coordinate
+     * @param yCoordinate the y coordinate
+     * @return the packed coordinates
+     */
+    public static long pack(int xCoordinate, int yCoordinate) {
+        return ((long) xCoordinate << Integer.SIZE) | (yCoordinate & LOWER_HALF);
+    }
 
-        return outputNeighbours;
+    /**
+     * Gets the x coordinate out of packed coordinates.
+     *
+     * @param packedPosition the packed coordinates
+     * @return the x coordinate
+     */
+    public static int unpackXCoordinate(long packedPosition) {
+        return (int) (packedPosition >> Integer.SIZE);
+    }
+
+    /**
+     * Gets the y coordinate out of packed coordinates.
+     *
+     * @param packedPosition the packed coordinates
+     * @return the y coordinate
+     */
+    public static int unpackYCoordinate(long packedPosition) {
+        return (int) packedPosition;
+    }
+
+    /**
+     * Instantiates a position out of packed coordinates.
+     *
+     * @param packedPosition the packed coordinates
+     * @return the position
+     */
+    public static Position unpack(long packedPosition) {
+        return new Position(unpackXCoordinate(packedPosition), unpackYCoordinate(packedPosition));
     }
 
     /**
@@ -72,40 +116,57 @@ public class Position {
             throw new SemanticsException(Errors.POSITION_INVALID);
     }
 
-    private List<Position> getStraightNeighboursWithDirection(CardinalDirection cardinalDirection) {
-        return cardinalDirection.getNeighbours(this);
+    /**
+     * Visits the adjacent Neighbours of a Position, which are inside the bounds.
+     * @param xCoordinate the x-coordinate of the position.
+     * @param yCoordinate the y-coordinate of the position.
+     * @param cardinalDirection selects if the North,South,East,West Point should be allowed as Neighbour.
+     * @param allowCorners boolean to represent if corners should be allowed.
+     * @param rowLength the upperBound of the x-coordinate.
+     * @param columnLength the upperBound of the y-coordinate.
+     * @param consumer the consumer which gets called with the coordinates of every neighbour.
+     */
+    public static void forEachNeighbour(int xCoordinate, int yCoordinate, CardinalDirection cardinalDirection
+            , boolean allowCorners, int rowLength, int columnLength, NeighbourConsumer consumer) {
+        int[] rowOffsets = cardinalDirection.getRowOffsets(allowCorners);
+        int[] columnOffsets = cardinalDirection.getColumnOffsets(allowCorners);
+        for (int i = 0; i < rowOffsets.length; i++) {
+            int neighbourX = xCoordinate + rowOffsets[i];
+            int neighbourY = yCoordinate + columnOffsets[i];
+            if (isInBounds(neighbourX, neighbourY, rowLength, columnLength)) consumer.accept(neighbourX, neighbourY);
+        }
     }
 
     /**
-     * This method is used to get the adjacent Neighbours of a Position, which must fulfill the criteria inputted.
+     * Writes the row-major indices of the adjacent Neighbours of a Position, which are inside the bounds,
+     * into a buffer.
+     * @param xCoordinate the x-coordinate of the position.
+     * @param yCoordinate the y-coordinate of the position.
      * @param cardinalDirection selects if the North,South,East,West Point should be allowed as Neighbour.
      * @param allowCorners boolean to represent if corners should be allowed.
      * @param rowLength the upperBound of the x-coordinate.
      * @param columnLength the upperBound of the y-coordinate.
-     * @return a List of Neighbours
-     * @throws SemanticsException if the point on which the method is called is invalid.
+     * @param buffer the buffer, which needs to hold at least {@link #MAXIMUM_NUMBER_OF_NEIGHBOURS} elements.
+     * @return the number of neighbours written into the buffer.
      */
-    public List<Position> getAllNeighbours(CardinalDirection cardinalDirection, boolean allowCorners
-            , int rowLength, int columnLength) throws SemanticsException {
-        checkPosition(rowLength, columnLength);
-        List<Position> elementsToRemove = new LinkedList<>();
-        List<Position> output = new LinkedList<>(getStraightNeighboursWithDirection(cardinalDirection));
-        if (allowCorners) {
-            output.addAll(getDiagonalNeighbours());
-        }
-        for (Position neighbour : output) {
-            try {
-                neighbour.checkPosition(rowLength, columnLength);
-            } catch (SemanticsException e) {
-                elementsToRemove.add(neighbour);
+    public static int fillNeighbours(int xCoordinate, int yCoordinate, CardinalDirection cardinalDirection
+            , boolean allowCorners, int rowLength, int columnLength, int[] buffer) {
+        int[] rowOffsets = cardinalDirection.getRowOffsets(allowCorners);
+        int[] columnOffsets = cardinalDirection.getColumnOffsets(allowCorners);
+        int numberOfNeighbours = 0;
+        for (int i = 0; i < rowOffsets.length; i++) {
+            int neighbourX = xCoordinate + rowOffsets[i];
+            int neighbourY = yCoordinate + columnOffsets[i];
+            if (isInBounds(neighbourX, neighbourY, rowLength, columnLength)) {
+                buffer[numberOfNeighbours++] = neighbourX * columnLength + neighbourY;
             }
         }
-        for (Position elementToRemove : elementsToRemove) {
-            output.remove(elementToRemove);
-        }
-        return output;
+        return numberOfNeighbours;
     }
 
+    private static boolean isInBounds(int xCoordinate, int yCoordinate, int rowLength, int columnLength) {
+        return xCoordinate >= 0 && xCoordinate < rowLength && yCoordinate >= 0 && yCoordinate < columnLength;
+    }
 
     @Override
     public String toString() {
@@ -123,6 +184,6 @@ public class Position {
 
     @Override
     public int hashCode() {
-        return Objects.hash(xCoordinate, yCoordinate);
+        return HASH_MULTIPLIER * xCoordinate + yCoordinate;
     }
 }
@@ -0,0 +1,272 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import edu.kit.stephan.firecracker.model.firebreaker.player.Player;
+import edu.kit.stephan.firecracker.model.resources.Errors;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class describes the binary format of a game board, which was validated before.
+ * The header holds a magic number, the version of the format, the encoding of the fields and the size of the board.
+ * The fields follow as packed cells, see {@link PackedCell}, either with four bits per field
+ * or run-length encoded, whichever is smaller.
+ * Reading does not match the board against the regex again, it only checks the fields, which every game board has
+ * at the same place, that there are no other fire stations or lakes and that there is a small and a big fire.
+ * So a damaged file is rejected when it is loaded instead of breaking the game later.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public final class BinaryBoardFormat {
+    private static final int MAGIC_NUMBER = 0x46434244;
+    private static final byte VERSION = 1;
+    private static final byte ENCODING_PACKED = 0;
+    private static final byte ENCODING_RUN_LENGTH = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + 2 * Byte.BYTES + 2 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int BITS_PER_FIELD = 4;
+    private static final int FIELD_MASK = 0x0F;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int BITS_PER_LENGTH_BYTE = 7;
+    private static final int LENGTH_MASK = 0x7F;
+    private static final int LENGTH_CONTINUES = 0x80;
+    private static final int MAXIMUM_BYTES_PER_LENGTH = 5;
+    private static final long MAXIMUM_NUMBER_OF_CELLS = Integer.MAX_VALUE - 8;
+    /*
+    The four fire stations in the corners and the four lakes between them.
+     */
+    private static final long NUMBER_OF_FIELDS_WITHOUT_FOREST = 8;
+
+    private BinaryBoardFormat() {
+        throw new IllegalStateException("Utility-class constructor.");
+    }
+
+    /**
+     * Writes packed fields into a file, which gets replaced if it exists.
+     *
+     * @param path         the path of the file
+     * @param rowLength    the row length
+     * @param columnLength the column length
+     * @param cells        the fields packed row-major
+     * @throws IOException if the file could not be written
+     */
+    public static void write(Path path, int rowLength, int columnLength, byte[] cells) throws IOException {
+        boolean runLength = sizeOfRunLength(cells) < sizeOfPacked(cells);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE
+                , StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC_NUMBER)
+                    .put(VERSION)
+                    .put(runLength ? ENCODING_RUN_LENGTH : ENCODING_PACKED)
+                    .putInt(rowLength)
+                    .putInt(columnLength);
+            if (runLength) {
+                writeRunLength(channel, buffer, cells);
+            } else {
+                writePacked(channel, buffer, cells);
+            }
+            buffer.flip();
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Reads a game board out of a file.
+     *
+     * @param path the path of the file
+     * @return the game board
+     * @throws IOException     if the file could not be read
+     * @throws SyntaxException if the file is not a game board of this format
+     */
+    public static GameBoard read(Path path) throws IOException, SyntaxException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt() != MAGIC_NUMBER || buffer.get() != VERSION) {
+            throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+        }
+        byte encoding = buffer.get();
+        int rowLength = buffer.getInt();
+        int columnLength = buffer.getInt();
+        if (rowLength < GameBoard.MINIMUM_GAME_BOARD_SIZE || columnLength < GameBoard.MINIMUM_GAME_BOARD_SIZE
+                || (long) rowLength * columnLength > MAXIMUM_NUMBER_OF_CELLS) {
+            throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+        }
+        byte[] cells = new byte[rowLength * columnLength];
+        long fieldsWithoutForest;
+        try {
+            if (encoding == ENCODING_PACKED) {
+                fieldsWithoutForest = readPacked(buffer, cells);
+            } else if (encoding == ENCODING_RUN_LENGTH) {
+                fieldsWithoutForest = readRunLength(buffer, cells);
+            } else {
+                throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+        }
+        if (buffer.hasRemaining() || fieldsWithoutForest != NUMBER_OF_FIELDS_WITHOUT_FOREST
+                || !hasFixedFields(rowLength, columnLength, cells)) {
+            throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+        }
+        GameBoard gameBoard = new GameBoard(rowLength, columnLength, cells);
+        if (!gameBoard.hasSmallAndBigFire()) throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+        return gameBoard;
+    }
+
+    private static long sizeOfPacked(byte[] cells) {
+        return (cells.length + 1) / 2;
+    }
+
+    private static long sizeOfRunLength(byte[] cells) {
+        long size = 0;
+        int start = 0;
+        while (start < cells.length) {
+            int end = endOfRun(cells, start);
+            size += Byte.BYTES + sizeOfLength(end - start);
+            start = end;
+        }
+        return size;
+    }
+
+    private static void writePacked(FileChannel channel, ByteBuffer buffer, byte[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i += 2) {
+            int second = i + 1 < cells.length ? cells[i + 1] : PackedCell.DRY;
+            ensureRemaining(channel, buffer, Byte.BYTES);
+            buffer.put((byte) (cells[i] << BITS_PER_FIELD | second));
+        }
+    }
+
+    private static void writeRunLength(FileChannel channel, ByteBuffer buffer, byte[] cells) throws IOException {
+        int start = 0;
+        while (start < cells.length) {
+            int end = endOfRun(cells, start);
+            ensureRemaining(channel, buffer, Byte.BYTES + MAXIMUM_BYTES_PER_LENGTH);
+            buffer.put(cells[start]);
+            int length = end - start;
+            while (length > LENGTH_MASK) {
+                buffer.put((byte) (length & LENGTH_MASK | LENGTH_CONTINUES));
+                length >>>= BITS_PER_LENGTH_BYTE;
+            }
+            buffer.put((byte) length);
+            start = end;
+        }
+    }
+
+    /*
+    Returns the number of fields, which are no forest sections.
+     */
+    private static long readPacked(ByteBuffer buffer, byte[] cells) throws SyntaxException {
+        if (buffer.remaining() != sizeOfPacked(cells)) throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+        long fieldsWithoutForest = 0;
+        for (int i = 0; i < cells.length; i += 2) {
+            int pair = buffer.get() & BYTE_MASK;
+            cells[i] = checkCell(pair >>> BITS_PER_FIELD);
+            if (!PackedCell.isForest(cells[i])) fieldsWithoutForest++;
+            if (i + 1 < cells.length) {
+                cells[i + 1] = checkCell(pair & FIELD_MASK);
+                if (!PackedCell.isForest(cells[i + 1])) fieldsWithoutForest++;
+            } else if ((pair & FIELD_MASK) != PackedCell.DRY) {
+                throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+            }
+        }
+        return fieldsWithoutForest;
+    }
+
+    /*
+    Returns the number of fields, which are no forest sections.
+     */
+    private static long readRunLength(ByteBuffer buffer, byte[] cells) throws SyntaxException {
+        long fieldsWithoutForest = 0;
+        int start = 0;
+        while (start < cells.length) {
+            byte cell = checkCell(buffer.get());
+            long length = 0;
+            int shift = 0;
+            int lengthByte;
+            do {
+                if (shift > BITS_PER_LENGTH_BYTE * (MAXIMUM_BYTES_PER_LENGTH - 1)) {
+                    throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+                }
+                lengthByte = buffer.get() & BYTE_MASK;
+                length |= (long) (lengthByte & LENGTH_MASK) << shift;
+                shift += BITS_PER_LENGTH_BYTE;
+            } while ((lengthByte & LENGTH_CONTINUES) != 0);
+            if (length == 0 || length > cells.length - start) throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+            int end = start + (int) length;
+            for (int i = start; i < end; i++) {
+                cells[i] = cell;
+            }
+            if (!PackedCell.isForest(cell)) fieldsWithoutForest += length;
+            start = end;
+        }
+        return fieldsWithoutForest;
+    }
+
+    /*
+    The same places as the regex of the game board: the fire stations in the corners, the lakes between them
+    and the dry forest sections below the first fire brigades.
+     */
+    private static boolean hasFixedFields(int rowLength, int columnLength, byte[] cells) {
+        int lastCell = cells.length - 1;
+        return cells[0] == PackedCell.ofFireStation(Player.REPRESENTATION_FOR_PLAYER_A)
+                && cells[lastCell] == PackedCell.ofFireStation(Player.REPRESENTATION_FOR_PLAYER_B)
+                && cells[columnLength * (rowLength - 1)] == PackedCell.ofFireStation(Player.REPRESENTATION_FOR_PLAYER_C)
+                && cells[columnLength - 1] == PackedCell.ofFireStation(Player.REPRESENTATION_FOR_PLAYER_D)
+                && cells[columnLength / 2] == PackedCell.LAKE
+                && cells[lastCell - columnLength / 2] == PackedCell.LAKE
+                && cells[rowLength / 2 * columnLength] == PackedCell.LAKE
+                && cells[(rowLength / 2 + 1) * columnLength - 1] == PackedCell.LAKE
+                && cells[columnLength + 1] == PackedCell.DRY
+                && cells[2 * columnLength - 2] == PackedCell.DRY
+                && cells[(rowLength - 2) * columnLength + 1] == PackedCell.DRY
+                && cells[(rowLength - 1) * columnLength - 2] == PackedCell.DRY;
+    }
+
+    private static byte checkCell(int cell) throws SyntaxException {
+        if (cell < PackedCell.DRY || cell > PackedCell.FIRE_STATION_D) {
+            throw new SyntaxException(Errors.BOARD_FILE_IS_CORRUPT);
+        }
+        return (byte) cell;
+    }
+
+    private static int endOfRun(byte[] cells, int start) {
+        int end = start + 1;
+        while (end < cells.length && cells[end] == cells[start]) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int sizeOfLength(int length) {
+        int size = 1;
+        for (int rest = length >>> BITS_PER_LENGTH_BYTE; rest != 0; rest >>>= BITS_PER_LENGTH_BYTE) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() >= needed) return;
+        buffer.flip();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
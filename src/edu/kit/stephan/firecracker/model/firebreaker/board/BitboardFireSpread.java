@@ -0,0 +1,163 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import edu.kit.stephan.firecracker.model.firebreaker.CardinalDirection;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class models the fire spread engine, which keeps one bitset per condition of the forest sections.
+ * Every row starts at a new word, so the bits of a row never share a word with the next row. Spreading to the north
+ * and south reads the word one row away, spreading to the east and west shifts the words of a row by one bit
+ * and carries the bit of the neighbouring word. A roll handles 64 fields per operation and applies the increase
+ * of every condition with masks, so it costs as much as the board is big, regardless of the size of the fire.
+ * The loops over the words are run by the fastest {@link SpreadKernel} of the machine. On huge boards the rows are
+ * split into stripes, which are handled in parallel on the fork/join pool. Every stripe first only reads the bitsets
+ * of the conditions and writes its part of the increase, the increase is applied after every stripe was collected,
+ * so the stripes never see a neighbouring row, which was already rolled.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class BitboardFireSpread implements FireSpreadEngine {
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int SHIFT_OF_WORD = 6;
+    private static final int LAST_BIT = BITS_PER_WORD - 1;
+    private static final int NUMBER_OF_CONDITIONS = PackedCell.BIG_FIRE + 1;
+    /*
+    Smaller boards are rolled on the calling thread, because forking would cost more than it saves.
+     */
+    private static final int MINIMUM_WORDS_TO_SPREAD_IN_PARALLEL = 1 << 15;
+    private static final int MINIMUM_WORDS_PER_STRIPE = 1 << 12;
+
+    private final int rowLength;
+    private final int columnLength;
+    private final int wordsPerRow;
+    /*
+    The bitsets of the conditions, indexed by their packed value.
+     */
+    private final long[][] conditions;
+    private final long[] increased;
+    private final SpreadKernel spreadKernel;
+
+    /**
+     * Instantiates a new bitboard fire spread engine.
+     *
+     * @param rowLength    the row length
+     * @param columnLength the column length
+     */
+    public BitboardFireSpread(int rowLength, int columnLength) {
+        this.rowLength = rowLength;
+        this.columnLength = columnLength;
+        this.wordsPerRow = (columnLength + LAST_BIT) >>> SHIFT_OF_WORD;
+        this.conditions = new long[NUMBER_OF_CONDITIONS][rowLength * wordsPerRow];
+        this.increased = new long[rowLength * wordsPerRow];
+        this.spreadKernel = SpreadKernel.create(conditions, increased, rowLength, wordsPerRow);
+    }
+
+    @Override
+    public void reset(byte[] cells) {
+        for (long[] condition : conditions) {
+            Arrays.fill(condition, 0);
+        }
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (PackedCell.isForest(cells[cell])) conditions[cells[cell]][wordOf(cell)] |= bitOf(cell);
+        }
+    }
+
+    @Override
+    public void cellChanged(int cell, byte newCell) {
+        int word = wordOf(cell);
+        long bit = bitOf(cell);
+        for (long[] condition : conditions) {
+            condition[word] &= ~bit;
+        }
+        if (PackedCell.isForest(newCell)) conditions[newCell][word] |= bit;
+    }
+
+    @Override
+    public void spreadFire(CardinalDirection cardinalDirection, CellIndexSet cellsToIncrease) {
+        /*
+        The increased fields are collected first, so every shift reads the bitsets before the roll.
+         */
+        int directions = directionsOf(cardinalDirection);
+        if (increased.length >= MINIMUM_WORDS_TO_SPREAD_IN_PARALLEL && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new StripeTask(directions, 0, rowLength, true));
+            ForkJoinPool.commonPool().invoke(new StripeTask(directions, 0, rowLength, false));
+        } else {
+            spreadKernel.collectIncrease(directions, 0, rowLength);
+            spreadKernel.applyIncrease(0, increased.length);
+        }
+        for (int word = 0; word < increased.length; word++) {
+            if (increased[word] != 0) addCells(word, increased[word], cellsToIncrease);
+        }
+    }
+
+    private void addCells(int word, long bits, CellIndexSet cellsToIncrease) {
+        int row = word / wordsPerRow;
+        int firstColumn = (word - row * wordsPerRow) << SHIFT_OF_WORD;
+        long remaining = bits;
+        while (remaining != 0) {
+            cellsToIncrease.add(row * columnLength + firstColumn + Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+    }
+
+    private int wordOf(int cell) {
+        return cell / columnLength * wordsPerRow + ((cell % columnLength) >>> SHIFT_OF_WORD);
+    }
+
+    private long bitOf(int cell) {
+        return 1L << (cell % columnLength);
+    }
+
+    private static int directionsOf(CardinalDirection cardinalDirection) {
+        switch (cardinalDirection) {
+            case ALL_DIRECTIONS:
+                return SpreadKernel.NORTH | SpreadKernel.EAST | SpreadKernel.SOUTH | SpreadKernel.WEST;
+            case NORTH:
+                return SpreadKernel.NORTH;
+            case EAST:
+                return SpreadKernel.EAST;
+            case SOUTH:
+                return SpreadKernel.SOUTH;
+            case WEST:
+                return SpreadKernel.WEST;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * This class models a stripe of rows, which is split until it is small enough.
+     */
+    private final class StripeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int directions;
+        private final int fromRow;
+        private final int toRow;
+        private final boolean collect;
+
+        private StripeTask(int directions, int fromRow, int toRow, boolean collect) {
+            this.directions = directions;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.collect = collect;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow > 1 && (toRow - fromRow) * wordsPerRow > MINIMUM_WORDS_PER_STRIPE) {
+                int middle = (fromRow + toRow) >>> 1;
+                invokeAll(new StripeTask(directions, fromRow, middle, collect)
+                        , new StripeTask(directions, middle, toRow, collect));
+            } else if (collect) {
+                spreadKernel.collectIncrease(directions, fromRow, toRow);
+            } else {
+                spreadKernel.applyIncrease(fromRow * wordsPerRow, toRow * wordsPerRow);
+            }
+        }
+    }
+}
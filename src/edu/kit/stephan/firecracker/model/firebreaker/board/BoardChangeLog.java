@@ -0,0 +1,128 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+/**
+ * This class models a log of the fields of a game board which were changed.
+ * Every change gets a new version, so an observer can ask for the fields changed since the last version it has seen.
+ * If the log gets full, only the latest change of every field is kept. If that is still too much,
+ * the log is dropped and older versions can only be answered with the whole board.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class BoardChangeLog {
+    private static final int MINIMUM_CAPACITY = 64;
+    private static final int FIELDS_PER_ENTRY = 4;
+
+    private final int maximumCapacity;
+    private final CellIndexSet fieldsSeen;
+    private int[] changedFields;
+    private long[] versions;
+    private int size;
+    private long version;
+    private long oldestVersion;
+
+    /**
+     * Instantiates a new empty board change log.
+     *
+     * @param numberOfFields the number of fields of the game board
+     */
+    public BoardChangeLog(int numberOfFields) {
+        this.maximumCapacity = Math.max(MINIMUM_CAPACITY, numberOfFields / FIELDS_PER_ENTRY);
+        this.fieldsSeen = new CellIndexSet();
+        this.changedFields = new int[MINIMUM_CAPACITY];
+        this.versions = new long[MINIMUM_CAPACITY];
+    }
+
+    /**
+     * Records the change of a field.
+     *
+     * @param cell the index of the changed field
+     */
+    public void record(int cell) {
+        if (size == changedFields.length) makeRoom();
+        version++;
+        changedFields[size] = cell;
+        versions[size] = version;
+        size++;
+    }
+
+    /**
+     * Records a change of every field, so every older version is answered with the whole board.
+     */
+    public void recordEverything() {
+        version++;
+        size = 0;
+        oldestVersion = version;
+    }
+
+    /**
+     * Gets the current version.
+     *
+     * @return the version of the latest change
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Method to return if the log knows every change since a version.
+     *
+     * @param since the version the observer has seen
+     * @return true -> if the changes since the version can be collected
+     * false -> if the whole board is needed
+     */
+    public boolean knowsChangesSince(long since) {
+        return since >= oldestVersion && since <= version;
+    }
+
+    /**
+     * Collects every field changed after a version, each field once.
+     *
+     * @param since   the version the observer has seen, which needs to be known by the log
+     * @param changed the set the indices of the changed fields are added to
+     */
+    public void collectChangesSince(long since, CellIndexSet changed) {
+        for (int i = size - 1; i >= 0 && versions[i] > since; i--) {
+            changed.add(changedFields[i]);
+        }
+    }
+
+    private void makeRoom() {
+        compact();
+        if (2 * size <= changedFields.length) return;
+        if (changedFields.length < maximumCapacity) {
+            int newCapacity = Math.min(2 * changedFields.length, maximumCapacity);
+            int[] newChangedFields = new int[newCapacity];
+            long[] newVersions = new long[newCapacity];
+            System.arraycopy(changedFields, 0, newChangedFields, 0, size);
+            System.arraycopy(versions, 0, newVersions, 0, size);
+            changedFields = newChangedFields;
+            versions = newVersions;
+            return;
+        }
+        /*
+        The changes cover so many fields, that sending the whole board is not much more.
+         */
+        size = 0;
+        oldestVersion = version;
+    }
+
+    private void compact() {
+        /*
+        Keep only the latest change of every field, the order of the kept changes stays the same.
+         */
+        fieldsSeen.clear();
+        int kept = size;
+        for (int i = size - 1; i >= 0; i--) {
+            if (fieldsSeen.add(changedFields[i])) {
+                kept--;
+                changedFields[kept] = changedFields[i];
+                versions[kept] = versions[i];
+            }
+        }
+        int newSize = size - kept;
+        System.arraycopy(changedFields, kept, changedFields, 0, newSize);
+        System.arraycopy(versions, kept, versions, 0, newSize);
+        size = newSize;
+    }
+}
@@ -0,0 +1,161 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import edu.kit.stephan.firecracker.model.firebreaker.FireBrigade;
+import edu.kit.stephan.firecracker.model.resources.Errors;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * This class models which fire brigades are standing on which field of a game board.
+ * Only occupied fields are stored, so the memory needed grows with the number of fire brigades,
+ * not with the size of the game board.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class BrigadeOccupancy {
+    private final Map<Integer, Set<FireBrigade>> fireBrigadesOnField;
+    private int numberOfFireBrigades;
+
+    /**
+     * Instantiates a new empty brigade occupancy.
+     */
+    public BrigadeOccupancy() {
+        this.fireBrigadesOnField = new HashMap<>();
+    }
+
+    /**
+     * Adds a fire brigade to a field.
+     *
+     * @param cell        the index of the field
+     * @param fireBrigade the fire brigade which should be added
+     */
+    public void addFireBrigade(int cell, FireBrigade fireBrigade) {
+        if (fireBrigadesOnField.computeIfAbsent(cell, key -> new TreeSet<>()).add(fireBrigade)) {
+            numberOfFireBrigades++;
+        }
+    }
+
+    /**
+     * Deletes a fire brigade out of a field.
+     *
+     * @param cell        the index of the field
+     * @param fireBrigade the fire brigade which should be removed
+     */
+    public void deleteFireBrigade(int cell, FireBrigade fireBrigade) {
+        Set<FireBrigade> fireBrigades = fireBrigadesOnField.get(cell);
+        if (fireBrigades == null) return;
+        if (fireBrigades.remove(fireBrigade)) numberOfFireBrigades--;
+        if (fireBrigades.isEmpty()) fireBrigadesOnField.remove(cell);
+    }
+
+    /**
+     * Sets every fire brigade on a field to burning and removes them.
+     *
+     * @param cell the index of the field
+     */
+    public void clearBrigades(int cell) {
+        Set<FireBrigade> fireBrigades = fireBrigadesOnField.remove(cell);
+        if (fireBrigades == null) return;
+        numberOfFireBrigades -= fireBrigades.size();
+        fireBrigades.forEach(FireBrigade::setBurning);
+    }
+
+    /**
+     * Removes every fire brigade without setting them to burning.
+     */
+    public void clear() {
+        fireBrigadesOnField.clear();
+        numberOfFireBrigades = 0;
+    }
+
+    /**
+     * Gets the fire brigades on a field, sorted by their identifier.
+     *
+     * @param cell the index of the field
+     * @return an unmodifiable view of the fire brigades on the field
+     */
+    public Set<FireBrigade> getFireBrigades(int cell) {
+        Set<FireBrigade> fireBrigades = fireBrigadesOnField.get(cell);
+        if (fireBrigades == null) return Collections.emptySet();
+        return Collections.unmodifiableSet(fireBrigades);
+    }
+
+    /**
+     * Method to determine if something is alive on any field.
+     *
+     * @return true -> if at least one fire brigade is standing on the board.
+     */
+    public boolean somethingAlive() {
+        return numberOfFireBrigades > 0;
+    }
+
+    /**
+     * Gets the number of fire brigades standing on the board.
+     *
+     * @return the maintained number of fire brigades
+     */
+    public int getNumberOfFireBrigades() {
+        return numberOfFireBrigades;
+    }
+
+    /**
+     * Counts the fire brigades by visiting every occupied field.
+     *
+     * @return the counted number of fire brigades
+     */
+    public int countFireBrigades() {
+        int counted = 0;
+        for (Set<FireBrigade> fireBrigades : fireBrigadesOnField.values()) {
+            counted += fireBrigades.size();
+        }
+        return counted;
+    }
+
+    /**
+     * Writes every occupied field and the identifiers of its fire brigades into a checkpoint.
+     *
+     * @param output the output of the checkpoint
+     * @throws IOException if the checkpoint could not be written
+     */
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        output.writeInt(numberOfFireBrigades);
+        for (Map.Entry<Integer, Set<FireBrigade>> field : fireBrigadesOnField.entrySet()) {
+            for (FireBrigade fireBrigade : field.getValue()) {
+                output.writeInt(field.getKey());
+                output.writeUTF(fireBrigade.getUniqueIdentifier());
+            }
+        }
+    }
+
+    /**
+     * Replaces every fire brigade with the ones of a checkpoint.
+     *
+     * @param input          the input of the checkpoint
+     * @param numberOfFields the number of fields of the game board
+     * @param fireBrigades   the fire brigades of the players by their identifier
+     * @throws IOException     if the checkpoint could not be read
+     * @throws SyntaxException if the checkpoint is corrupt
+     */
+    public void readCheckpoint(DataInput input, int numberOfFields, Map<String, FireBrigade> fireBrigades)
+            throws IOException, SyntaxException {
+        clear();
+        int numberToRead = input.readInt();
+        for (int i = 0; i < numberToRead; i++) {
+            int cell = input.readInt();
+            FireBrigade fireBrigade = fireBrigades.get(input.readUTF());
+            if (cell < 0 || cell >= numberOfFields || fireBrigade == null) {
+                throw new SyntaxException(Errors.CHECKPOINT_IS_CORRUPT);
+            }
+            addFireBrigade(cell, fireBrigade);
+        }
+    }
+}
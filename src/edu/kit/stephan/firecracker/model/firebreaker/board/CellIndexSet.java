@@ -0,0 +1,138 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import java.util.Arrays;
+
+/**
+ * This class models a set of field indices of a game board.
+ * The indices are stored in an open addressed hash table of primitive ints, so adding, removing and looking up
+ * an index needs no allocation and the memory grows with the number of indices, not with the size of the board.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class CellIndexSet {
+    private static final int NO_CELL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] table;
+    private int size;
+
+    /**
+     * Instantiates a new empty cell index set.
+     */
+    public CellIndexSet() {
+        this.table = new int[DEFAULT_CAPACITY];
+        Arrays.fill(table, NO_CELL);
+    }
+
+    /**
+     * Adds a field index.
+     *
+     * @param cell the non-negative index of the field
+     * @return true -> if the index was not contained before
+     */
+    public boolean add(int cell) {
+        int slot = findSlot(cell);
+        if (table[slot] == cell) return false;
+        table[slot] = cell;
+        size++;
+        if (2 * size > table.length) grow();
+        return true;
+    }
+
+    /**
+     * Removes a field index.
+     *
+     * @param cell the index of the field
+     * @return true -> if the index was contained
+     */
+    public boolean remove(int cell) {
+        int slot = findSlot(cell);
+        if (table[slot] != cell) return false;
+        table[slot] = NO_CELL;
+        size--;
+        /*
+        Shift the following entries of the probe sequence back, so every entry stays reachable.
+         */
+        int mask = table.length - 1;
+        int free = slot;
+        int current = (slot + 1) & mask;
+        while (table[current] != NO_CELL) {
+            int home = hash(table[current]) & mask;
+            if (((current - home) & mask) >= ((current - free) & mask)) {
+                table[free] = table[current];
+                table[current] = NO_CELL;
+                free = current;
+            }
+            current = (current + 1) & mask;
+        }
+        return true;
+    }
+
+    /**
+     * Method to return if a field index is contained.
+     *
+     * @param cell the index of the field
+     * @return true -> if the index is contained
+     */
+    public boolean contains(int cell) {
+        return table[findSlot(cell)] == cell;
+    }
+
+    /**
+     * Gets the number of contained field indices.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every field index.
+     */
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(table, NO_CELL);
+        size = 0;
+    }
+
+    /**
+     * Copies the contained field indices into a buffer, in no particular order.
+     *
+     * @param buffer the buffer, which gets replaced if it is too small
+     * @return the buffer holding the indices in its first {@link #size()} elements
+     */
+    public int[] copyTo(int[] buffer) {
+        int[] output = buffer.length < size ? new int[table.length] : buffer;
+        int index = 0;
+        for (int cell : table) {
+            if (cell != NO_CELL) output[index++] = cell;
+        }
+        return output;
+    }
+
+    private int findSlot(int cell) {
+        int mask = table.length - 1;
+        int slot = hash(cell) & mask;
+        while (table[slot] != NO_CELL && table[slot] != cell) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldTable = table;
+        table = new int[oldTable.length * 2];
+        Arrays.fill(table, NO_CELL);
+        for (int cell : oldTable) {
+            if (cell != NO_CELL) table[findSlot(cell)] = cell;
+        }
+    }
+
+    private static int hash(int cell) {
+        int hash = cell * HASH_MULTIPLIER;
+        return hash ^ (hash >>> 16);
+    }
+}
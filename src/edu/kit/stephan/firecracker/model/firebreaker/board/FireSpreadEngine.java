@@ -0,0 +1,38 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import edu.kit.stephan.firecracker.model.firebreaker.CardinalDirection;
+
+/**
+ * This interface describes how a game board finds the fields, whose fire increases in a roll.
+ * An engine may keep its own representation of the fields, so it is told about every change of a field,
+ * except the changes of its own rolls.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public interface FireSpreadEngine {
+
+    /**
+     * Rebuilds the engine out of the packed fields.
+     *
+     * @param cells the packed fields, see {@link PackedCell}
+     */
+    void reset(byte[] cells);
+
+    /**
+     * Tells the engine, that a field was changed outside of a roll.
+     *
+     * @param cell    the index of the field
+     * @param newCell the new packed field
+     */
+    void cellChanged(int cell, byte newCell);
+
+    /**
+     * Spreads the fire in a direction. Every forest section next to a big fire in the direction and every small fire
+     * is increased once. The engine adds the increased fields to the set, the game board changes them afterwards.
+     *
+     * @param cardinalDirection the direction in which the fire is spreading, not {@link CardinalDirection#NONE}
+     * @param cellsToIncrease   the empty set, which receives the fields to increase
+     */
+    void spreadFire(CardinalDirection cardinalDirection, CellIndexSet cellsToIncrease);
+}
@@ -21,4 +21,9 @@ public class FireStation extends GameField {
     public String toString() {
         return ownerOfFireStation;
     }
+
+    @Override
+    public byte toPackedCell() {
+        return PackedCell.ofFireStation(ownerOfFireStation);
+    }
 }
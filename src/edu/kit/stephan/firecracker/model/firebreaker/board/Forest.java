@@ -1,27 +1,21 @@
 package edu.kit.stephan.firecracker.model.firebreaker.board;
 
-import edu.kit.stephan.firecracker.model.firebreaker.FireBrigade;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
-import edu.kit.stephan.firecracker.core.Pair;
 import edu.kit.stephan.firecracker.model.resources.SyntaxException;
 
 import java.util.Arrays;
-import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * This class models a Forest.
+ * The fire brigades standing in a forest are managed by the game board.
  *
  * @author Johannes Stephan
  * @version 1.0
  */
 public class Forest extends GameField {
 
-    private static final String TO_STRING_SEPARATOR = ",";
-    private static final String REPRESENTATION_FOR_NOT_BURNING = "x";
-    private final Set<FireBrigade> fireBrigades;
-    private ConditionOfForestSection condition;
+    private final ConditionOfForestSection condition;
 
     /**
      * Instantiates a new Forest with default Condition.
@@ -37,7 +31,6 @@ public class Forest extends GameField {
      */
     public Forest(ConditionOfForestSection condition) {
         this.condition = condition;
-        this.fireBrigades = new TreeSet<>();
     }
 
 
@@ -50,122 +43,14 @@ public class Forest extends GameField {
         return condition;
     }
 
-
-    /**
-     * Method to return the String representation of the forest.
-     *
-     * @return "x" -> if the forest is not burning
-     * the string-representation of the forest piece -> if its burning.
-     */
-    public String getBurning() {
-        if (isBurning()) return condition.getRepresentationAsString();
-        return REPRESENTATION_FOR_NOT_BURNING;
-    }
-
-    /**
-     * Method to return if a forest is burning.
-     *
-     * @return true-> if the forest is burning
-     * false-> if the forest is not burning.
-     */
-    public boolean isBurning() {
-        return condition.equals(ConditionOfForestSection.SMALL_FIRE)
-                || condition.equals(ConditionOfForestSection.BIG_FIRE);
-
-    }
-
-    /**
-     * Method to return if a forest is severe burning.
-     *
-     * @return true -> if the forest is severe burning.
-     * false -> if the forest is not severe burning.
-     */
-    public boolean isSevereBurning() {
-        return condition.equals(ConditionOfForestSection.BIG_FIRE);
-    }
-
-    /**
-     * Method to return if a forest is a little bit burning.
-     *
-     * @return true -> if the forest is small burning.
-     * false -> if the forest is not small burning.
-     */
-    public boolean hasSmallFire() {
-        return condition.equals(ConditionOfForestSection.SMALL_FIRE);
-    }
-
-    /**
-     * Add fire brigade to forest.
-     *
-     * @param fireBrigade the fire brigade which should be added
-     * @throws SemanticsException if the Forest has a Big Fire.
-     */
-    public void addFireBrigade(FireBrigade fireBrigade) throws SemanticsException {
-        if (isBurning()) throw new SemanticsException(Errors.CANT_PLACE_FIRE_BRIGADE);
-        fireBrigades.add(fireBrigade);
-    }
-
-
-    /**
-     * Delete fire brigade out of Forest.
-     *
-     * @param fireBrigade the fire brigade which should be removed.
-     */
-    public void deleteFireBrigade(FireBrigade fireBrigade) {
-        fireBrigades.remove(fireBrigade);
-    }
-
-    /**
-     * Extinguish Command performed on Forest.
-     *
-     * @return a Pair: firstElement(boolean) -> true if player earned a point.
-     * secondElement(String) -> the new representation of the forest as String
-     * @throws SemanticsException if the field is already wet.
-     */
-    public Pair<Boolean, String> extinguishFire() throws SemanticsException {
-        if (condition.equals(ConditionOfForestSection.DRY)) {
-            condition = condition.extinguishFire();
-            return new Pair<>(false, condition.getRepresentationAsString());
-        } else {
-            condition = condition.extinguishFire();
-            return new Pair<>(true, condition.getRepresentationAsString());
-        }
-    }
-
-
-    /**
-     * Increase burning.
-     */
-    public void increaseBurning() {
-        condition = condition.increaseFire();
-        if (condition.equals(ConditionOfForestSection.BIG_FIRE)) clearBrigades();
-    }
-
-    /**
-     * Method to determine when is something is alive in forest
-     *
-     * @return the result as a boolean.
-     */
-    public boolean somethingAliveInForest() {
-        return !fireBrigades.isEmpty();
-    }
-
     @Override
     public String toString() {
-        StringBuilder output = new StringBuilder();
-        output.append(condition.getRepresentationAsString());
-        if (fireBrigades.isEmpty()) return output.toString();
-
-        for (FireBrigade fireBrigade : fireBrigades) {
-            output.append(TO_STRING_SEPARATOR).append(fireBrigade.getUniqueIdentifier());
-        }
-        return output.toString();
+        return condition.getRepresentationAsString();
     }
 
-
-    private void clearBrigades() {
-        fireBrigades.forEach(FireBrigade::setBurning);
-        fireBrigades.clear();
+    @Override
+    public byte toPackedCell() {
+        return PackedCell.ofCondition(condition);
     }
 
     /**
@@ -0,0 +1,86 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import edu.kit.stephan.firecracker.model.firebreaker.CardinalDirection;
+import edu.kit.stephan.firecracker.model.firebreaker.NeighbourConsumer;
+import edu.kit.stephan.firecracker.model.firebreaker.Position;
+
+/**
+ * This class models the fire spread engine, which only visits the burning fields.
+ * It works on the live sets of the game board, so a roll costs as much as the fire is big,
+ * regardless of the size of the board.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class FrontierFireSpread implements FireSpreadEngine {
+    private static final boolean ALLOW_CORNERS_FALSE = false;
+
+    private final byte[] cells;
+    private final int rowLength;
+    private final int columnLength;
+    private final CellIndexSet cellsWithSmallFire;
+    private final CellIndexSet cellsWithBigFire;
+    private final NeighbourConsumer spreadFireToNeighbour;
+    private int[] frontierBuffer;
+    private CellIndexSet cellsToIncrease;
+
+    /**
+     * Instantiates a new frontier fire spread engine.
+     *
+     * @param cells              the live packed fields of the game board
+     * @param rowLength          the row length
+     * @param columnLength       the column length
+     * @param cellsWithSmallFire the live set of the fields with a small fire
+     * @param cellsWithBigFire   the live set of the fields with a big fire
+     */
+    public FrontierFireSpread(byte[] cells, int rowLength, int columnLength, CellIndexSet cellsWithSmallFire
+            , CellIndexSet cellsWithBigFire) {
+        this.cells = cells;
+        this.rowLength = rowLength;
+        this.columnLength = columnLength;
+        this.cellsWithSmallFire = cellsWithSmallFire;
+        this.cellsWithBigFire = cellsWithBigFire;
+        this.spreadFireToNeighbour = this::addCellToIncrease;
+        this.frontierBuffer = new int[0];
+    }
+
+    @Override
+    public void reset(byte[] cells) {
+        /* The sets of the game board are the only state. */
+    }
+
+    @Override
+    public void cellChanged(int cell, byte newCell) {
+        /* The sets of the game board are the only state. */
+    }
+
+    @Override
+    public void spreadFire(CardinalDirection cardinalDirection, CellIndexSet cellsToIncrease) {
+        this.cellsToIncrease = cellsToIncrease;
+        /*
+        The neighbours of the fields which are severe burning
+         */
+        frontierBuffer = cellsWithBigFire.copyTo(frontierBuffer);
+        for (int i = 0; i < cellsWithBigFire.size(); i++) {
+            Position.forEachNeighbour(frontierBuffer[i] / columnLength, frontierBuffer[i] % columnLength
+                    , cardinalDirection, ALLOW_CORNERS_FALSE, rowLength, columnLength, spreadFireToNeighbour);
+        }
+        /*
+        Adds the section which had a littleFire
+         */
+        frontierBuffer = cellsWithSmallFire.copyTo(frontierBuffer);
+        for (int i = 0; i < cellsWithSmallFire.size(); i++) {
+            cellsToIncrease.add(frontierBuffer[i]);
+        }
+    }
+
+    private void addCellToIncrease(int xCoordinate, int yCoordinate) {
+        int cell = xCoordinate * columnLength + yCoordinate;
+        /*
+        A big fire can not be increased any further and has no fire brigades left on it.
+         */
+        if (PackedCell.isForest(cells[cell]) && cells[cell] != PackedCell.BIG_FIRE) {
+            cellsToIncrease.add(cell);
+        }
+    }
+}
@@ -1,22 +1,24 @@
 package edu.kit.stephan.firecracker.model.firebreaker.board;
 
 
+import edu.kit.stephan.firecracker.model.firebreaker.ActionBuffer;
+import edu.kit.stephan.firecracker.model.firebreaker.ActionType;
 import edu.kit.stephan.firecracker.model.firebreaker.CardinalDirection;
 import edu.kit.stephan.firecracker.model.firebreaker.FireBrigade;
 import edu.kit.stephan.firecracker.model.firebreaker.Position;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
 import edu.kit.stephan.firecracker.core.Pair;
 import edu.kit.stephan.firecracker.core.Triple;
 
-import java.util.ArrayDeque;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
 
 /**
  * The class models a gameBoard.
@@ -40,14 +42,45 @@ public class GameBoard {
     private static final String FIELD_SEPARATOR_TO_STRING = ",";
     private static final String NOT_BURNING = "x";
     private static final int DISTANCE_OF_MOVE_ALLOWED = 2;
+    private static final int SEARCH_WINDOW_LENGTH = 2 * DISTANCE_OF_MOVE_ALLOWED + 1;
     private static final boolean ALLOW_CORNERS_TRUE = true;
     private static final boolean ALLOW_CORNERS_FALSE = false;
-    private static final boolean ONLY_FOREST_TRUE = true;
-    private static final boolean ONLY_FOREST_FALSE = false;
+    private static final int NO_CELL = -1;
+    private static final int CAPACITY_OF_FIELD_LINE = 64;
+    private static final int FOUND_END_CELL = -1;
+    /*
+    If set, the maintained counters are cross-checked against a scan of the whole board.
+     */
+    private static final boolean CHECK_COUNTERS = Boolean.getBoolean("firecracker.debug");
+    /*
+    Selects the fire spread engine, the frontier one unless the bitboard one is asked for.
+     */
+    private static final boolean USE_BITBOARD = "bitboard".equals(System.getProperty("firecracker.engine"));
 
 
-    private final GameField[][] gameBoardOfFireBreaker;
-    private final GameField[][] gameBoardCopied;
+    /*
+    The fields are packed row-major into one byte each, see PackedCell.
+     */
+    private final byte[] cells;
+    private final byte[] cellsCopied;
+    private final BrigadeOccupancy fireBrigades;
+    private final int[] cellsWithSmallFireCopied;
+    private final int[] cellsWithBigFireCopied;
+    /*
+    Live indexes of the burning fields, so spreading the fire only touches the fire frontier.
+     */
+    private final CellIndexSet cellsWithSmallFire;
+    private final CellIndexSet cellsWithBigFire;
+    private final CellIndexSet cellsToIncrease;
+    private final CellIndexSet changedCells;
+    private final BoardChangeLog changeLog;
+    private int[] frontierBuffer;
+    private int numberOfBurningCells;
+    private final int[] searchQueue;
+    private final int[] visitedStamps;
+    private int searchStamp;
+    private final int[] neighbourBuffer;
+    private final FireSpreadEngine fireSpreadEngine;
 
     private final int rowLength;
     private final int columnLength;
@@ -60,11 +93,37 @@ public class GameBoard {
      * @param createdBoard the created board
      */
     public GameBoard(int rowLength, int columnLength, GameField[][] createdBoard) {
+        this(rowLength, columnLength, packGameBoard(rowLength, columnLength, createdBoard));
+    }
 
+    /**
+     * Instantiates a new Game board out of packed fields.
+     *
+     * @param rowLength    the row length
+     * @param columnLength the column length
+     * @param packedBoard  the fields packed row-major, see {@link PackedCell}.
+     *                     The array is kept as the initial state and must not be modified afterwards.
+     */
+    public GameBoard(int rowLength, int columnLength, byte[] packedBoard) {
         this.rowLength = rowLength;
         this.columnLength = columnLength;
-        gameBoardOfFireBreaker = createdBoard;
-        gameBoardCopied = copyGameBoard(gameBoardOfFireBreaker);
+        this.cellsCopied = packedBoard;
+        this.cells = new byte[packedBoard.length];
+        this.fireBrigades = new BrigadeOccupancy();
+        this.cellsWithSmallFire = new CellIndexSet();
+        this.cellsWithBigFire = new CellIndexSet();
+        this.cellsToIncrease = new CellIndexSet();
+        this.changedCells = new CellIndexSet();
+        this.changeLog = new BoardChangeLog(packedBoard.length);
+        this.frontierBuffer = new int[0];
+        this.searchQueue = new int[SEARCH_WINDOW_LENGTH * SEARCH_WINDOW_LENGTH];
+        this.visitedStamps = new int[SEARCH_WINDOW_LENGTH * SEARCH_WINDOW_LENGTH];
+        this.neighbourBuffer = new int[Position.MAXIMUM_NUMBER_OF_NEIGHBOURS];
+        this.fireSpreadEngine = USE_BITBOARD ? new BitboardFireSpread(rowLength, columnLength)
+                : new FrontierFireSpread(cells, rowLength, columnLength, cellsWithSmallFire, cellsWithBigFire);
+        this.cellsWithSmallFireCopied = collectCells(packedBoard, PackedCell.SMALL_FIRE);
+        this.cellsWithBigFireCopied = collectCells(packedBoard, PackedCell.BIG_FIRE);
+        reset();
     }
 
     /**
@@ -76,8 +135,9 @@ public class GameBoard {
      */
     public String showField(Position positionToShowField) throws SemanticsException {
         positionToShowField.checkPosition(rowLength, columnLength);
-        return gameBoardOfFireBreaker[positionToShowField.getXCoordinate()][positionToShowField.getYCoordinate()]
-                .toString();
+        StringBuilder output = new StringBuilder();
+        appendField(output, indexOf(positionToShowField));
+        return output.toString();
     }
 
 
@@ -89,17 +149,86 @@ public class GameBoard {
      */
     public void hasLakeOrStationNextToIt(FireBrigade fireBrigade)
             throws SemanticsException {
-        Position p1 = fireBrigade.getPositionOfFireBrigade();
-        List<Position> neighbours = getNeighboursOfPosition(p1, ALLOW_CORNERS_TRUE, ONLY_FOREST_FALSE
-                , CardinalDirection.ALL_DIRECTIONS);
-        for (Position neighbour : neighbours) {
-            GameField gameField = gameBoardOfFireBreaker[neighbour.getXCoordinate()][neighbour.getYCoordinate()];
-            if (gameField.getClass() == Lake.class || gameField.getClass() == FireStation.class) {
-                return;
+        if (!isNextToRefillStation(fireBrigade.getPackedPosition()))
+            throw new SemanticsException(Errors.NO_REFILL_STATION);
+    }
+
+    /**
+     * Adds every move of a fire brigade, which is allowed by the game board, to a buffer.
+     * These are the fields within the distance of a move, which are not burning.
+     *
+     * @param fireBrigade the fire brigade, which may still move
+     * @param actions     the buffer of the actions
+     */
+    public void addMoves(FireBrigade fireBrigade, ActionBuffer actions) {
+        int numberOfReachedCells = searchWithinMoveDistance(indexOf(fireBrigade.getPackedPosition()), NO_CELL);
+        /*
+        The first field of the queue is the start.
+         */
+        for (int i = 1; i < numberOfReachedCells; i++) {
+            int cell = searchQueue[i];
+            if (!PackedCell.isBurning(cells[cell])) {
+                actions.add(ActionType.MOVE, fireBrigade, Position.pack(cell / columnLength, cell % columnLength));
+            }
+        }
+    }
+
+    /**
+     * Adds every extinguish of a fire brigade, which is allowed, to a buffer.
+     * These are the forest sections next to it, which are not wet and were not extinguished by it in this turn.
+     *
+     * @param fireBrigade the fire brigade
+     * @param actions     the buffer of the actions
+     */
+    public void addExtinguishes(FireBrigade fireBrigade, ActionBuffer actions) {
+        long packedPosition = fireBrigade.getPackedPosition();
+        int numberOfNeighbours = Position.fillNeighbours(Position.unpackXCoordinate(packedPosition)
+                , Position.unpackYCoordinate(packedPosition), CardinalDirection.ALL_DIRECTIONS, ALLOW_CORNERS_FALSE
+                , rowLength, columnLength, neighbourBuffer);
+        for (int i = 0; i < numberOfNeighbours; i++) {
+            int cell = neighbourBuffer[i];
+            if (!PackedCell.isForest(cells[cell]) || cells[cell] == PackedCell.WET) continue;
+            long packedNeighbour = Position.pack(cell / columnLength, cell % columnLength);
+            if (fireBrigade.canExtinguish(packedNeighbour)) {
+                actions.add(ActionType.EXTINGUISH, fireBrigade, packedNeighbour);
             }
         }
-        throw new SemanticsException(Errors.NO_REFILL_STATION);
+    }
 
+    /**
+     * Adds every field a bought fire engine may be placed on to a buffer.
+     * These are the forest sections next to the base, which are not burning. The command also accepts the other
+     * fields next to the base, but does not place the fire engine on them, so they are left out.
+     *
+     * @param positionOfBase the position of the base of the current player
+     * @param actions        the buffer of the actions
+     */
+    public void addFireEnginePositions(Position positionOfBase, ActionBuffer actions) {
+        int numberOfNeighbours = Position.fillNeighbours(positionOfBase.getXCoordinate()
+                , positionOfBase.getYCoordinate(), CardinalDirection.ALL_DIRECTIONS, ALLOW_CORNERS_TRUE
+                , rowLength, columnLength, neighbourBuffer);
+        for (int i = 0; i < numberOfNeighbours; i++) {
+            int cell = neighbourBuffer[i];
+            if (PackedCell.isForest(cells[cell]) && !PackedCell.isBurning(cells[cell])) {
+                actions.add(ActionType.BUY_FIRE_ENGINE, null, Position.pack(cell / columnLength, cell % columnLength));
+            }
+        }
+    }
+
+    /**
+     * Method to determine if there is a lake or a fire station next to a position.
+     *
+     * @param packedPosition the packed position
+     * @return true -> if a fire brigade on the position may refill
+     */
+    public boolean isNextToRefillStation(long packedPosition) {
+        int numberOfNeighbours = Position.fillNeighbours(Position.unpackXCoordinate(packedPosition)
+                , Position.unpackYCoordinate(packedPosition), CardinalDirection.ALL_DIRECTIONS, ALLOW_CORNERS_TRUE
+                , rowLength, columnLength, neighbourBuffer);
+        for (int i = 0; i < numberOfNeighbours; i++) {
+            if (!PackedCell.isForest(cells[neighbourBuffer[i]])) return true;
+        }
+        return false;
     }
 
     /**
@@ -113,19 +242,15 @@ public class GameBoard {
      */
     public Triple<Boolean, Boolean, String> extinguishMethod(FireBrigade fireBrigade, Position positionToExtinguish)
             throws SemanticsException {
-
-        List<Position> neighbours = getNeighboursOfPosition(fireBrigade.getPositionOfFireBrigade()
-                , ALLOW_CORNERS_FALSE, ONLY_FOREST_TRUE, CardinalDirection.ALL_DIRECTIONS);
-
-        if (!neighbours.contains(positionToExtinguish)) throw new SemanticsException(Errors.RANGE_TO_EXTINGUISH);
-        GameField gameField = gameBoardOfFireBreaker[positionToExtinguish.getXCoordinate()]
-                [positionToExtinguish.getYCoordinate()];
-        if (gameField.getClass() == Lake.class) throw new SemanticsException(Errors.YOU_CANT_EXTINGUISH_LAKES);
-        if (gameField.getClass() == FireStation.class)
+        if (!isNeighbour(fireBrigade.getPackedPosition(), positionToExtinguish, ALLOW_CORNERS_FALSE)
+                || !PackedCell.isForest(cells[indexOf(positionToExtinguish)]))
+            throw new SemanticsException(Errors.RANGE_TO_EXTINGUISH);
+        int cell = indexOf(positionToExtinguish);
+        if (cells[cell] == PackedCell.LAKE) throw new SemanticsException(Errors.YOU_CANT_EXTINGUISH_LAKES);
+        if (!PackedCell.isForest(cells[cell]))
             throw new SemanticsException(Errors.YOU_CANT_EXTINGUISH_FIRE_STATIONS);
 
-        Forest forest = (Forest) gameField;
-        Pair<Boolean, String> resultOfExtinguish = forest.extinguishFire();
+        Pair<Boolean, String> resultOfExtinguish = extinguishFire(cell);
         return new Triple<>(playerHaveWon(), resultOfExtinguish);
     }
 
@@ -143,11 +268,9 @@ public class GameBoard {
         positionOfFireBrigade.checkPosition(rowLength, columnLength);
         checkIfPositionsAreReachable(positionOfFireBrigade, positionOfBase);
 
-        if (gameBoardOfFireBreaker[positionOfFireBrigade.getXCoordinate()][positionOfFireBrigade.getYCoordinate()]
-                .getClass() == Forest.class) {
-            Forest forest = (Forest) gameBoardOfFireBreaker
-                    [positionOfFireBrigade.getXCoordinate()][positionOfFireBrigade.getYCoordinate()];
-            forest.addFireBrigade(fireBrigade);
+        int cell = indexOf(positionOfFireBrigade);
+        if (PackedCell.isForest(cells[cell])) {
+            addFireBrigade(cell, fireBrigade);
             fireBrigade.setPositionOfFireStation(positionOfFireBrigade);
         }
     }
@@ -161,29 +284,28 @@ public class GameBoard {
      */
     public void executeMoveMethod(FireBrigade fireBrigade, Position end) throws SemanticsException {
         end.checkPosition(rowLength, columnLength);
-        Position start = fireBrigade.getPositionOfFireBrigade();
+        long start = fireBrigade.getPackedPosition();
 
-        if (start.equals(end))
+        if (start == end.pack())
             throw new SemanticsException(Errors.POINTS_CANNOT_BE_EQUAL);
 
-        if (gameBoardOfFireBreaker[end.getXCoordinate()]
-                [end.getYCoordinate()].getClass() != Forest.class) {
+        int endCell = indexOf(end);
+        if (!PackedCell.isForest(cells[endCell])) {
             throw new SemanticsException(Errors.END_POINT_IS_NOT_VALID);
         }
 
-        Forest forest = (Forest) gameBoardOfFireBreaker[end.getXCoordinate()][end.getYCoordinate()];
-        if (forest.isBurning()) throw new SemanticsException(Errors.END_POINT_IS_NOT_VALID);
-        checkIfMoveIsAllowed(start, end);
+        if (PackedCell.isBurning(cells[endCell])) throw new SemanticsException(Errors.END_POINT_IS_NOT_VALID);
+        checkIfMoveIsAllowed(indexOf(start), endCell);
         /*
         Adding new FireStation
          */
         fireBrigade.setPositionOfFireStation(end);
-        forest.addFireBrigade(fireBrigade);
+        addFireBrigade(endCell, fireBrigade);
         /*
         Removing oldFireStation
          */
-        Forest oldForest = (Forest) gameBoardOfFireBreaker[start.getXCoordinate()][start.getYCoordinate()];
-        oldForest.deleteFireBrigade(fireBrigade);
+        fireBrigades.deleteFireBrigade(indexOf(start), fireBrigade);
+        changeLog.record(indexOf(start));
 
     }
 
@@ -192,21 +314,19 @@ public class GameBoard {
      *
      * @param cardinalDirection the cardinal direction in which the fire is spreading
      * @return a boolean, which describes if the game is lost.
-     * @throws SemanticsException the semantics exception if an error occurred.
      */
-    public boolean executeRollFire(CardinalDirection cardinalDirection) throws SemanticsException {
+    public boolean executeRollFire(CardinalDirection cardinalDirection) {
         if (cardinalDirection.equals(CardinalDirection.NONE))
             return false;
 
-        Set<Position> positionsWhichNeedsToBeIncreased = getPositionsWhichNeedToBeIncreased(cardinalDirection);
+        cellsToIncrease.clear();
+        fireSpreadEngine.spreadFire(cardinalDirection, cellsToIncrease);
         /*
         Increase the Fields
          */
-        for (Position positionWhichNeedToBeIncrease : positionsWhichNeedsToBeIncreased) {
-            GameField gameField = gameBoardOfFireBreaker[positionWhichNeedToBeIncrease.getXCoordinate()]
-                    [positionWhichNeedToBeIncrease.getYCoordinate()];
-            Forest forest = (Forest) gameField;
-            forest.increaseBurning();
+        frontierBuffer = cellsToIncrease.copyTo(frontierBuffer);
+        for (int i = 0; i < cellsToIncrease.size(); i++) {
+            increaseBurning(frontierBuffer[i]);
         }
 
         /*
@@ -217,12 +337,102 @@ public class GameBoard {
 
 
     /**
-     * Gets a new starting gameBoard
+     * Resets the gameBoard to its initial state and removes every fire brigade.
+     * The fields are restored with one bulk copy of the initial state, so a reset creates no garbage.
+     */
+    public void reset() {
+        System.arraycopy(cellsCopied, 0, cells, 0, cells.length);
+        fireBrigades.clear();
+        cellsWithSmallFire.clear();
+        cellsWithBigFire.clear();
+        for (int cell : cellsWithSmallFireCopied) {
+            cellsWithSmallFire.add(cell);
+        }
+        for (int cell : cellsWithBigFireCopied) {
+            cellsWithBigFire.add(cell);
+        }
+        numberOfBurningCells = cellsWithSmallFireCopied.length + cellsWithBigFireCopied.length;
+        fireSpreadEngine.reset(cells);
+        changeLog.recordEverything();
+    }
+
+    /**
+     * Writes the fields and the fire brigades standing on them into a checkpoint.
+     *
+     * @param output the output of the checkpoint
+     * @throws IOException if the checkpoint could not be written
+     */
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        output.writeInt(cells.length);
+        output.write(cells);
+        fireBrigades.writeCheckpoint(output);
+    }
+
+    /**
+     * Replaces the fields and the fire brigades standing on them with the ones of a checkpoint.
+     * The maintained sets and counters are rebuilt out of the fields, every older version is answered with the
+     * whole board afterwards.
+     *
+     * @param input            the input of the checkpoint
+     * @param fireBrigadesRead the fire brigades of the players by their identifier
+     * @throws IOException     if the checkpoint could not be read
+     * @throws SyntaxException if the checkpoint is corrupt
+     */
+    public void readCheckpoint(DataInput input, Map<String, FireBrigade> fireBrigadesRead)
+            throws IOException, SyntaxException {
+        if (input.readInt() != cells.length) throw new SyntaxException(Errors.CHECKPOINT_IS_CORRUPT);
+        input.readFully(cells);
+        cellsWithSmallFire.clear();
+        cellsWithBigFire.clear();
+        numberOfBurningCells = 0;
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] < PackedCell.DRY || cells[cell] > PackedCell.FIRE_STATION_D) {
+                throw new SyntaxException(Errors.CHECKPOINT_IS_CORRUPT);
+            }
+            if (cells[cell] == PackedCell.SMALL_FIRE) cellsWithSmallFire.add(cell);
+            if (cells[cell] == PackedCell.BIG_FIRE) cellsWithBigFire.add(cell);
+            if (PackedCell.isBurning(cells[cell])) numberOfBurningCells++;
+        }
+        fireBrigades.readCheckpoint(input, cells.length, fireBrigadesRead);
+        fireSpreadEngine.reset(cells);
+        changeLog.recordEverything();
+    }
+
+    /**
+     * Saves the initial state of the gameBoard in the binary format, see {@link BinaryBoardFormat}.
+     *
+     * @param path the path of the file
+     * @throws IOException if the file could not be written
+     */
+    public void saveInitialState(Path path) throws IOException {
+        BinaryBoardFormat.write(path, rowLength, columnLength, cellsCopied);
+    }
+
+    /**
+     * Gets a new starting gameBoard, which shares the immutable initial state with this gameBoard.
      *
      * @return the initial GameBoard
      */
     public GameBoard getGameBoardCopied() {
-        return new GameBoard(rowLength, columnLength, copyGameBoard(gameBoardCopied));
+        return new GameBoard(rowLength, columnLength, cellsCopied);
+    }
+
+    /**
+     * Method to determine if the initial board has a small and a big fire, like every valid game board.
+     *
+     * @return true -> if the initial board has at least one small and one big fire.
+     */
+    public boolean hasSmallAndBigFire() {
+        return cellsWithSmallFireCopied.length > 0 && cellsWithBigFireCopied.length > 0;
+    }
+
+    /**
+     * Method to determine if any field is still burning.
+     *
+     * @return true -> if at least one field is burning.
+     */
+    public boolean isBurning() {
+        return !playerHaveWon();
     }
 
     /**
@@ -243,200 +453,299 @@ public class GameBoard {
         return rowLength;
     }
 
+    /**
+     * Checks if a rectangle of fields lies inside the game board.
+     *
+     * @param upperLeft  the first field of the rectangle
+     * @param lowerRight the last field of the rectangle
+     * @throws SemanticsException if the rectangle is empty or not inside the game board
+     */
+    public void checkViewport(Position upperLeft, Position lowerRight) throws SemanticsException {
+        upperLeft.checkPosition(rowLength, columnLength);
+        lowerRight.checkPosition(rowLength, columnLength);
+        if (upperLeft.getXCoordinate() > lowerRight.getXCoordinate()
+                || upperLeft.getYCoordinate() > lowerRight.getYCoordinate()) {
+            throw new SemanticsException(Errors.POSITION_INVALID);
+        }
+    }
+
+    /**
+     * Renders the whole game board into a sink.
+     *
+     * @param sink the sink to write to
+     * @throws IOException if the sink could not be written
+     */
+    public void render(Appendable sink) throws IOException {
+        render(sink, 0, 0, rowLength - 1, columnLength - 1);
+    }
+
+    /**
+     * Renders a rectangle of the game board into a sink, row by row.
+     * The rectangle needs to be checked by {@link #checkViewport(Position, Position)} before.
+     *
+     * @param sink       the sink to write to
+     * @param upperLeft  the first field of the rectangle
+     * @param lowerRight the last field of the rectangle, inclusive
+     * @throws IOException if the sink could not be written
+     */
+    public void render(Appendable sink, Position upperLeft, Position lowerRight) throws IOException {
+        render(sink, upperLeft.getXCoordinate(), upperLeft.getYCoordinate()
+                , lowerRight.getXCoordinate(), lowerRight.getYCoordinate());
+    }
+
+    /**
+     * Gets the version of the game board, which increases with every change of a field.
+     *
+     * @return the current version
+     */
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    /**
+     * Renders every field changed after a version into a sink.
+     * The first line is the current version, every following line is a changed field as x,y and its show-field
+     * representation. If the changes since the version are not known anymore, every field is rendered.
+     *
+     * @param sink  the sink to write to
+     * @param since the version the caller has seen
+     * @throws IOException if the sink could not be written
+     */
+    public void renderChangesSince(Appendable sink, long since) throws IOException {
+        if (!changeLog.knowsChangesSince(since)) {
+            renderAllFields(sink);
+            return;
+        }
+        changedCells.clear();
+        changeLog.collectChangesSince(since, changedCells);
+        int[] changed = changedCells.copyTo(new int[changedCells.size()]);
+        Arrays.sort(changed);
+        sink.append(String.valueOf(changeLog.getVersion()));
+        StringBuilder line = new StringBuilder(CAPACITY_OF_FIELD_LINE);
+        for (int cell : changed) {
+            renderField(sink, line, cell);
+        }
+    }
+
+    /**
+     * Renders the current version and every field into a sink, in the format of
+     * {@link #renderChangesSince(Appendable, long)}.
+     *
+     * @param sink the sink to write to
+     * @throws IOException if the sink could not be written
+     */
+    public void renderAllFields(Appendable sink) throws IOException {
+        sink.append(String.valueOf(changeLog.getVersion()));
+        StringBuilder line = new StringBuilder(CAPACITY_OF_FIELD_LINE);
+        for (int cell = 0; cell < cells.length; cell++) {
+            renderField(sink, line, cell);
+        }
+    }
+
     @Override
     public String toString() {
-        StringBuilder output = new StringBuilder();
-        for (int i = 0; i < rowLength; i++) {
-            for (int j = 0; j < columnLength; j++) {
-                if (gameBoardOfFireBreaker[i][j].getClass() == Forest.class) {
-                    Forest forest = (Forest) gameBoardOfFireBreaker[i][j];
-                    output.append(forest.getBurning()).append(FIELD_SEPARATOR_TO_STRING);
-                    continue;
-                }
-                output.append(NOT_BURNING).append(FIELD_SEPARATOR_TO_STRING);
+        StringBuilder output = new StringBuilder(rowLength * (2 * columnLength + System.lineSeparator().length()));
+        try {
+            render(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toString();
+    }
+
+    /*
+    The line is a builder reused for every field of one rendering, so a field creates no garbage.
+     */
+    private void renderField(Appendable sink, StringBuilder line, int cell) throws IOException {
+        line.setLength(0);
+        line.append(System.lineSeparator()).append(cell / columnLength).append(FIELD_SEPARATOR_TO_STRING)
+                .append(cell % columnLength).append(FIELD_SEPARATOR_TO_STRING);
+        appendField(line, cell);
+        sink.append(line);
+    }
+
+    private void appendField(StringBuilder output, int cell) {
+        output.append(PackedCell.getRepresentation(cells[cell]));
+        for (FireBrigade fireBrigade : fireBrigades.getFireBrigades(cell)) {
+            output.append(FIELD_SEPARATOR_TO_STRING).append(fireBrigade.getUniqueIdentifier());
+        }
+    }
+
+    private void render(Appendable sink, int firstRow, int firstColumn, int lastRow, int lastColumn)
+            throws IOException {
+        /*
+        Every row is collected in a reused builder first, so the sink is called once per row and not per field.
+         */
+        StringBuilder row = new StringBuilder(2 * (lastColumn - firstColumn + 1));
+        for (int i = firstRow; i <= lastRow; i++) {
+            row.setLength(0);
+            for (int j = firstColumn; j <= lastColumn; j++) {
+                if (j > firstColumn) row.append(FIELD_SEPARATOR_TO_STRING);
+                byte cell = cells[i * columnLength + j];
+                row.append(PackedCell.isBurning(cell) ? PackedCell.getRepresentation(cell) : NOT_BURNING);
             }
-            output.deleteCharAt(output.length() - 1);
-            output.append(System.lineSeparator());
+            if (i > firstRow) sink.append(System.lineSeparator());
+            sink.append(row);
         }
-        return output.deleteCharAt(output.length() - 1).toString();
     }
 
-    private GameField[][] copyGameBoard(GameField[][] gameBoardToCopy) {
-        GameField[][] copiedBoard = new GameField[rowLength][columnLength];
+    private static byte[] packGameBoard(int rowLength, int columnLength, GameField[][] gameBoardToPack) {
+        byte[] packedBoard = new byte[rowLength * columnLength];
         for (int i = 0; i < rowLength; i++) {
             for (int j = 0; j < columnLength; j++) {
-                GameField gameField = gameBoardToCopy[i][j];
-                if (gameField.getClass() == Forest.class) {
-                    Forest forest = (Forest) gameField;
-                    copiedBoard[i][j] = new Forest(forest.getCondition());
-                }
-                if (gameField.getClass() == Lake.class) {
-                    copiedBoard[i][j] = new Lake();
-                }
-                if (gameField.getClass() == FireStation.class) {
-                    FireStation fireStation = (FireStation) gameField;
-                    copiedBoard[i][j] = new FireStation(fireStation.toString());
-                }
+                packedBoard[i * columnLength + j] = gameBoardToPack[i][j].toPackedCell();
             }
         }
-        return copiedBoard;
+        return packedBoard;
+    }
+
+    private static int[] collectCells(byte[] packedBoard, byte packedCell) {
+        int numberOfCells = 0;
+        for (byte cell : packedBoard) {
+            if (cell == packedCell) numberOfCells++;
+        }
+        int[] collectedCells = new int[numberOfCells];
+        int index = 0;
+        for (int cell = 0; cell < packedBoard.length; cell++) {
+            if (packedBoard[cell] == packedCell) collectedCells[index++] = cell;
+        }
+        return collectedCells;
+    }
+
+    private int indexOf(Position position) {
+        return position.getXCoordinate() * columnLength + position.getYCoordinate();
+    }
+
+    private int indexOf(long packedPosition) {
+        return Position.unpackXCoordinate(packedPosition) * columnLength + Position.unpackYCoordinate(packedPosition);
+    }
+
+    private Pair<Boolean, String> extinguishFire(int cell) throws SemanticsException {
+        Forest.ConditionOfForestSection condition = PackedCell.getCondition(cells[cell]);
+        Forest.ConditionOfForestSection extinguished = condition.extinguishFire();
+        updateCell(cell, PackedCell.ofCondition(extinguished));
+        fireSpreadEngine.cellChanged(cell, cells[cell]);
+        return new Pair<>(!condition.equals(Forest.ConditionOfForestSection.DRY)
+                , extinguished.getRepresentationAsString());
+    }
+
+    private void increaseBurning(int cell) {
+        updateCell(cell, PackedCell.ofCondition(PackedCell.getCondition(cells[cell]).increaseFire()));
+        if (cells[cell] == PackedCell.BIG_FIRE) fireBrigades.clearBrigades(cell);
+    }
+
+    private void updateCell(int cell, byte newCell) {
+        byte oldCell = cells[cell];
+        if (oldCell == newCell) return;
+        if (oldCell == PackedCell.SMALL_FIRE) cellsWithSmallFire.remove(cell);
+        if (oldCell == PackedCell.BIG_FIRE) cellsWithBigFire.remove(cell);
+        if (PackedCell.isBurning(oldCell)) numberOfBurningCells--;
+        cells[cell] = newCell;
+        changeLog.record(cell);
+        if (newCell == PackedCell.SMALL_FIRE) cellsWithSmallFire.add(cell);
+        if (newCell == PackedCell.BIG_FIRE) cellsWithBigFire.add(cell);
+        if (PackedCell.isBurning(newCell)) numberOfBurningCells++;
+    }
+
+    private void addFireBrigade(int cell, FireBrigade fireBrigade) throws SemanticsException {
+        if (PackedCell.isBurning(cells[cell])) throw new SemanticsException(Errors.CANT_PLACE_FIRE_BRIGADE);
+        fireBrigades.addFireBrigade(cell, fireBrigade);
+        changeLog.record(cell);
     }
 
     private boolean playerHaveWon() {
+        if (CHECK_COUNTERS && numberOfBurningCells != countBurningCells())
+            throw new IllegalStateException(Errors.COUNTER_IS_INCONSISTENT);
+        return numberOfBurningCells == 0;
+    }
 
-        for (int i = 0; i < rowLength; i++) {
-            for (int j = 0; j < columnLength; j++) {
-                GameField gameField = gameBoardOfFireBreaker[i][j];
-                if (gameField.getClass() == Forest.class) {
-                    Forest forest = (Forest) gameField;
-                    if (forest.isBurning()) return false;
-                }
-            }
+    private int countBurningCells() {
+        int burningCells = 0;
+        for (byte cell : cells) {
+            if (PackedCell.isBurning(cell)) burningCells++;
         }
-        return true;
+        return burningCells;
     }
 
     private boolean checkIfLost() {
-        boolean fireBrigadeAlive = false;
-        for (int i = 0; i < rowLength; i++) {
-            for (int j = 0; j < columnLength; j++) {
-                if (gameBoardOfFireBreaker[i][j].getClass() == Forest.class) {
-                    Forest forest = (Forest) gameBoardOfFireBreaker[i][j];
-                    if (forest.somethingAliveInForest()) fireBrigadeAlive = true;
-                }
-            }
-        }
-        return !fireBrigadeAlive;
-    }
-
-    private List<Position> getNeighboursOfPosition(Position positionToGetNeighboursFrom, boolean allowCorners
-            , boolean onlyForest, CardinalDirection cardinalDirection) throws SemanticsException {
-        List<Position> potentialNeighbours = positionToGetNeighboursFrom
-                .getAllNeighbours(cardinalDirection, allowCorners, rowLength, columnLength);
-        if (onlyForest) {
-            List<Position> elementsToRemove = new LinkedList<>();
-            for (Position neighbour : potentialNeighbours) {
-                GameField gameField = gameBoardOfFireBreaker[neighbour.getXCoordinate()][neighbour.getYCoordinate()];
-                if (gameField.getClass() == Lake.class || gameField.getClass() == FireStation.class) {
-                    elementsToRemove.add(neighbour);
-                }
-            }
-            for (Position elementToRemove : elementsToRemove) {
-                potentialNeighbours.remove(elementToRemove);
-            }
+        if (CHECK_COUNTERS && fireBrigades.getNumberOfFireBrigades() != fireBrigades.countFireBrigades())
+            throw new IllegalStateException(Errors.COUNTER_IS_INCONSISTENT);
+        return !fireBrigades.somethingAlive();
+    }
+
+    private boolean isNeighbour(long packedPosition, Position potentialNeighbour, boolean allowCorners) {
+        if (!isOnBoard(potentialNeighbour.getXCoordinate(), potentialNeighbour.getYCoordinate())) return false;
+        int cell = indexOf(potentialNeighbour);
+        int numberOfNeighbours = Position.fillNeighbours(Position.unpackXCoordinate(packedPosition)
+                , Position.unpackYCoordinate(packedPosition), CardinalDirection.ALL_DIRECTIONS, allowCorners
+                , rowLength, columnLength, neighbourBuffer);
+        for (int i = 0; i < numberOfNeighbours; i++) {
+            if (neighbourBuffer[i] == cell) return true;
         }
-        return potentialNeighbours;
+        return false;
     }
 
     private void checkIfPositionsAreReachable(Position startPosition, Position endPosition) throws SemanticsException {
         if (startPosition.equals(endPosition)) throw new SemanticsException(Errors.POINTS_ARE_THE_SAME);
-        if (!startPosition.getAllNeighbours(CardinalDirection.ALL_DIRECTIONS
-                , ALLOW_CORNERS_TRUE, rowLength, columnLength).contains(endPosition)) {
+        if (!isNeighbour(startPosition.pack(), endPosition, ALLOW_CORNERS_TRUE)) {
             throw new SemanticsException(Errors.POINTS_ARE_NOT_REACHABLE);
         }
     }
 
-    private void checkIfMoveIsAllowed(Position startPosition, Position endPosition) throws SemanticsException {
-        Pair<Boolean, Map<Position, Position>> resultsOfPathFinding = searchPath(startPosition, endPosition);
-        if (!(boolean) resultsOfPathFinding.getFirstElement())
+    private void checkIfMoveIsAllowed(int startCell, int endCell) throws SemanticsException {
+        if (!isReachableWithinMoveDistance(startCell, endCell))
             throw new SemanticsException(Errors.POINTS_ARE_NOT_REACHABLE);
-        int lengthOfWay = getLengthOfFoundWay(resultsOfPathFinding.getSecondElement(), startPosition, endPosition);
-        if (lengthOfWay > DISTANCE_OF_MOVE_ALLOWED) throw new SemanticsException(Errors.POINTS_ARE_NOT_REACHABLE);
     }
 
-    private Pair<Boolean, Map<Position, Position>> searchPath(Position startPosition, Position endPosition)
-            throws SemanticsException {
-        Map<Position, Position> parentMap = new HashMap<>();
-        Queue<Position> positionQueue = new ArrayDeque<>();
-        Set<Position> visitedPositions = new HashSet<>();
-
-        positionQueue.add(startPosition);
-        while (true) {
-            Position current = positionQueue.peek();
-            if (current == null) {
-                return new Pair<>(false, new HashMap<>());
-            }
-            if (current.equals(endPosition)) {
-                return new Pair<>(true, parentMap);
-            }
-            current = positionQueue.poll();
-            visitedPositions.add(current);
-            for (Position position : getNeighboursWhichAreNotSevereBurning(current)) {
-                if (!visitedPositions.contains(position)) {
-                    visitedPositions.add(position);
-                    positionQueue.add(position);
-                    parentMap.put(position, current);
-                }
-            }
-        }
+    private boolean isReachableWithinMoveDistance(int startCell, int endCell) {
+        return searchWithinMoveDistance(startCell, endCell) == FOUND_END_CELL;
     }
 
-    private List<Position> getNeighboursWhichAreNotSevereBurning(Position p1) throws SemanticsException {
-        List<Position> validNeighbours = getNeighboursOfPosition(p1, ALLOW_CORNERS_FALSE, ONLY_FOREST_TRUE
-                , CardinalDirection.ALL_DIRECTIONS);
-        List<Position> elementsToRemove = new LinkedList<>();
-        for (Position neighbour : validNeighbours) {
-            Forest forest = (Forest) gameBoardOfFireBreaker[neighbour.getXCoordinate()][neighbour.getYCoordinate()];
-            if (!forest.getCondition().equals(Forest.ConditionOfForestSection.BIG_FIRE)) {
-                continue;
-            }
-            elementsToRemove.add(neighbour);
-        }
-        for (Position elementToRemove : elementsToRemove) {
-            validNeighbours.remove(elementToRemove);
-        }
-        return validNeighbours;
-    }
-
-    private int getLengthOfFoundWay(Map<Position, Position> parentMap, Position start, Position end) {
-        Position child = end;
-        Position parent = parentMap.get(end);
-        int lengthOfWay = 0;
-        while (!child.equals(start)) {
-            Position safeParent = parent;
-            parent = parentMap.get(parent);
-            child = safeParent;
-            lengthOfWay++;
+    /*
+    Breadth first search, which stops after the allowed distance of a move. Fields which are visited are stamped
+    in a window around the start, so a search neither allocates nor needs to clear anything.
+    Returns FOUND_END_CELL as soon as the end is reached, otherwise the number of fields in the search queue,
+    which are the start followed by every reachable field.
+     */
+    private int searchWithinMoveDistance(int startCell, int endCell) {
+        if (++searchStamp == 0) {
+            Arrays.fill(visitedStamps, 0);
+            searchStamp = 1;
         }
-        return lengthOfWay;
-    }
-
-    private Set<Position> getPositionsWhichNeedToBeIncreased(CardinalDirection cardinalDirection)
-            throws SemanticsException {
-        Set<Position> positionsWhichAreSevereBurning = new HashSet<>();
-        Set<Position> positionsWhichNeedsToBeIncreased = new HashSet<>();
-        Set<Position> positionsWithLittleFire = new HashSet<>();
-        /*
-        Set of Positions which are severe Burning
-         */
-        for (int i = 0; i < rowLength; i++) {
-            for (int j = 0; j < columnLength; j++) {
-                if (gameBoardOfFireBreaker[i][j].getClass() == Forest.class) {
-                    Forest forest = (Forest) gameBoardOfFireBreaker[i][j];
-                    if (forest.isSevereBurning()) {
-                        positionsWhichAreSevereBurning.add(new Position(i, j));
-                    }
-                    if (forest.hasSmallFire()) {
-                        positionsWithLittleFire.add(new Position(i, j));
-                    }
+        int startX = startCell / columnLength;
+        int startY = startCell % columnLength;
+        int head = 0;
+        int tail = 0;
+        searchQueue[tail++] = startCell;
+        visitedStamps[indexInSearchWindow(0, 0)] = searchStamp;
+        for (int distance = 0; distance < DISTANCE_OF_MOVE_ALLOWED; distance++) {
+            int endOfLevel = tail;
+            while (head < endOfLevel) {
+                int cell = searchQueue[head++];
+                int numberOfNeighbours = Position.fillNeighbours(cell / columnLength, cell % columnLength
+                        , CardinalDirection.ALL_DIRECTIONS, ALLOW_CORNERS_FALSE, rowLength, columnLength
+                        , neighbourBuffer);
+                for (int i = 0; i < numberOfNeighbours; i++) {
+                    int neighbour = neighbourBuffer[i];
+                    if (!PackedCell.isForest(cells[neighbour]) || cells[neighbour] == PackedCell.BIG_FIRE) continue;
+                    int windowIndex = indexInSearchWindow(neighbour / columnLength - startX
+                            , neighbour % columnLength - startY);
+                    if (visitedStamps[windowIndex] == searchStamp) continue;
+                    if (neighbour == endCell) return FOUND_END_CELL;
+                    visitedStamps[windowIndex] = searchStamp;
+                    searchQueue[tail++] = neighbour;
                 }
             }
         }
-        /*
-        Get the fields which need to be increased
-         */
-        for (Position positionWhichAreSevereBurning : positionsWhichAreSevereBurning) {
-            List<Position> neighbours = getNeighboursOfPosition(positionWhichAreSevereBurning, ALLOW_CORNERS_FALSE
-                    , ONLY_FOREST_TRUE, cardinalDirection);
+        return tail;
+    }
 
-            positionsWhichNeedsToBeIncreased.addAll(neighbours);
-        }
-        /*
-        Adds the section which had a littleFire
-         */
-        positionsWhichNeedsToBeIncreased.addAll(positionsWithLittleFire);
-        return positionsWhichNeedsToBeIncreased;
+    private static int indexInSearchWindow(int xOffset, int yOffset) {
+        return (xOffset + DISTANCE_OF_MOVE_ALLOWED) * SEARCH_WINDOW_LENGTH + yOffset + DISTANCE_OF_MOVE_ALLOWED;
     }
 
-}
+    private boolean isOnBoard(int xCoordinate, int yCoordinate) {
+        return xCoordinate >= 0 && xCoordinate < rowLength && yCoordinate >= 0 && yCoordinate < columnLength;
+    }
 
+}
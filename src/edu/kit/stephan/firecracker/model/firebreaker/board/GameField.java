@@ -12,5 +12,12 @@ public abstract class GameField {
      * @return the string representation of object.
      */
     public abstract String toString();
+
+    /**
+     * Packs the game field into its byte representation.
+     * @return the packed value of the game field.
+     * @see PackedCell
+     */
+    public abstract byte toPackedCell();
 }
 
@@ -16,4 +16,9 @@ public class Lake extends GameField {
     public String toString() {
         return REPRESENTATION_OF_LAKE;
     }
+
+    @Override
+    public byte toPackedCell() {
+        return PackedCell.LAKE;
+    }
 }
@@ -0,0 +1,122 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+import edu.kit.stephan.firecracker.model.firebreaker.board.Forest.ConditionOfForestSection;
+
+/**
+ * This class describes the packed representation of a single game field.
+ * A forest section is stored as the ordinal of its condition, lakes and fire stations have their own values.
+ * So a whole game board fits into a flat byte array.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public final class PackedCell {
+    /**
+     * Packed value of a dry forest section.
+     */
+    public static final byte DRY = 0;
+    /**
+     * Packed value of a wet forest section.
+     */
+    public static final byte WET = 1;
+    /**
+     * Packed value of a forest section with a small fire.
+     */
+    public static final byte SMALL_FIRE = 2;
+    /**
+     * Packed value of a forest section with a big fire.
+     */
+    public static final byte BIG_FIRE = 3;
+    /**
+     * Packed value of a lake.
+     */
+    public static final byte LAKE = 4;
+    /**
+     * Packed value of the fire station of the first player, the other stations follow in alphabetical order.
+     */
+    public static final byte FIRE_STATION_A = 5;
+    /**
+     * Packed value of the fire station of the last player.
+     */
+    public static final byte FIRE_STATION_D = 8;
+
+    private static final char FIRST_OWNER_OF_FIRE_STATION = 'A';
+    private static final ConditionOfForestSection[] CONDITIONS = ConditionOfForestSection.values();
+
+    private PackedCell() {
+        throw new IllegalStateException("Utility-class constructor.");
+    }
+
+    /**
+     * Packs the condition of a forest section.
+     *
+     * @param condition the condition of the forest section
+     * @return the packed value
+     */
+    public static byte ofCondition(ConditionOfForestSection condition) {
+        return (byte) condition.ordinal();
+    }
+
+    /**
+     * Packs a fire station.
+     *
+     * @param ownerOfFireStation the string representation of the owner of the fire station
+     * @return the packed value
+     */
+    public static byte ofFireStation(String ownerOfFireStation) {
+        return ofFireStation(ownerOfFireStation.charAt(0));
+    }
+
+    /**
+     * Packs a fire station.
+     *
+     * @param ownerOfFireStation the character representation of the owner of the fire station
+     * @return the packed value
+     */
+    public static byte ofFireStation(char ownerOfFireStation) {
+        return (byte) (FIRE_STATION_A + ownerOfFireStation - FIRST_OWNER_OF_FIRE_STATION);
+    }
+
+    /**
+     * Method to return if a packed cell is a forest section.
+     *
+     * @param cell the packed cell
+     * @return true -> if the cell is a forest section
+     * false -> if the cell is a lake or a fire station
+     */
+    public static boolean isForest(byte cell) {
+        return cell < LAKE;
+    }
+
+    /**
+     * Method to return if a packed cell is a burning forest section.
+     *
+     * @param cell the packed cell
+     * @return true -> if the cell has a small or a big fire
+     */
+    public static boolean isBurning(byte cell) {
+        return cell == SMALL_FIRE || cell == BIG_FIRE;
+    }
+
+    /**
+     * Gets the condition of a packed forest section.
+     *
+     * @param cell the packed cell, which needs to be a forest section
+     * @return the condition of the forest section
+     */
+    public static ConditionOfForestSection getCondition(byte cell) {
+        return CONDITIONS[cell];
+    }
+
+    /**
+     * Gets the string representation of a packed cell, without any fire brigades on it.
+     *
+     * @param cell the packed cell
+     * @return the representation
+     */
+    public static String getRepresentation(byte cell) {
+        if (isForest(cell)) return CONDITIONS[cell].getRepresentationAsString();
+        if (cell == LAKE) return Lake.REPRESENTATION_OF_LAKE;
+        return String.valueOf((char) (FIRST_OWNER_OF_FIRE_STATION + cell - FIRE_STATION_A));
+    }
+}
@@ -0,0 +1,38 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+/**
+ * This class models the spread kernel, which handles one word per step.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class ScalarSpreadKernel extends SpreadKernel {
+
+    /**
+     * Instantiates a new scalar kernel over the bitsets of an engine.
+     *
+     * @param conditions  the bitsets of the conditions, indexed by their packed value
+     * @param increased   the bitset of the increased forest sections
+     * @param rowLength   the number of rows
+     * @param wordsPerRow the number of words of every row
+     */
+    public ScalarSpreadKernel(long[][] conditions, long[] increased, int rowLength, int wordsPerRow) {
+        super(conditions, increased, rowLength, wordsPerRow);
+    }
+
+    @Override
+    public void collectIncrease(int directions, int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            for (int word = row * wordsPerRow; word < (row + 1) * wordsPerRow; word++) {
+                collectIncreaseOfWord(directions, row, word);
+            }
+        }
+    }
+
+    @Override
+    public void applyIncrease(int fromWord, int toWord) {
+        for (int word = fromWord; word < toWord; word++) {
+            applyIncreaseOfWord(word);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package edu.kit.stephan.firecracker.model.firebreaker.board;
+
+/**
+ * This class models the loops of the bitboard fire spread engine over the words of its bitsets.
+ * The scalar kernel handles one word per step. If the incubating Vector API is available at runtime,
+ * the vector kernel is used instead, which handles as many words per step as the vectors of the machine hold.
+ * The vector kernel lives in the separate source root src-vector and is only loaded by its name, so the sources
+ * in src compile without the Vector API. To build it, compile src first and then the vector kernel against it:
+ * {@code javac --add-modules jdk.incubator.vector -cp <classes> -d <classes> <src-vector files>}.
+ * The game has to be started with {@code --add-modules jdk.incubator.vector} to use it.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public abstract class SpreadKernel {
+    /**
+     * The bit of the direction north, the fire spreads into the previous row.
+     */
+    public static final int NORTH = 1;
+    /**
+     * The bit of the direction east, the fire spreads into the next column.
+     */
+    public static final int EAST = 1 << 1;
+    /**
+     * The bit of the direction south, the fire spreads into the next row.
+     */
+    public static final int SOUTH = 1 << 2;
+    /**
+     * The bit of the direction west, the fire spreads into the previous column.
+     */
+    public static final int WEST = 1 << 3;
+    /**
+     * The bit, which carries a big fire into the neighbouring word of a row.
+     */
+    protected static final int LAST_BIT = Long.SIZE - 1;
+    private static final String NAME_OF_VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String NAME_OF_VECTOR_KERNEL = SpreadKernel.class.getPackageName() + ".VectorSpreadKernel";
+    /*
+    If set to false, the scalar kernel is used even if the Vector API is available.
+     */
+    private static final boolean USE_VECTORS = Boolean.parseBoolean(System.getProperty("firecracker.vector", "true"));
+
+    /**
+     * The bitset of the dry forest sections.
+     */
+    protected final long[] dry;
+    /**
+     * The bitset of the wet forest sections.
+     */
+    protected final long[] wet;
+    /**
+     * The bitset of the forest sections with a small fire.
+     */
+    protected final long[] smallFire;
+    /**
+     * The bitset of the forest sections with a big fire.
+     */
+    protected final long[] bigFire;
+    /**
+     * The bitset of the forest sections, which are increased by the current roll.
+     */
+    protected final long[] increased;
+    /**
+     * The number of words of every row.
+     */
+    protected final int wordsPerRow;
+    /**
+     * The number of rows.
+     */
+    protected final int rowLength;
+
+    /**
+     * Instantiates a new kernel over the bitsets of an engine.
+     *
+     * @param conditions  the bitsets of the conditions, indexed by their packed value
+     * @param increased   the bitset of the increased forest sections
+     * @param rowLength   the number of rows
+     * @param wordsPerRow the number of words of every row
+     */
+    protected SpreadKernel(long[][] conditions, long[] increased, int rowLength, int wordsPerRow) {
+        this.dry = conditions[PackedCell.DRY];
+        this.wet = conditions[PackedCell.WET];
+        this.smallFire = conditions[PackedCell.SMALL_FIRE];
+        this.bigFire = conditions[PackedCell.BIG_FIRE];
+        this.increased = increased;
+        this.rowLength = rowLength;
+        this.wordsPerRow = wordsPerRow;
+    }
+
+    /**
+     * Creates the fastest kernel available at runtime.
+     *
+     * @param conditions  the bitsets of the conditions, indexed by their packed value
+     * @param increased   the bitset of the increased forest sections
+     * @param rowLength   the number of rows
+     * @param wordsPerRow the number of words of every row
+     * @return the vector kernel if the Vector API is available, the scalar kernel otherwise
+     */
+    public static SpreadKernel create(long[][] conditions, long[] increased, int rowLength, int wordsPerRow) {
+        if (USE_VECTORS && ModuleLayer.boot().findModule(NAME_OF_VECTOR_MODULE).isPresent()) {
+            try {
+                return (SpreadKernel) Class.forName(NAME_OF_VECTOR_KERNEL)
+                        .getConstructor(long[][].class, long[].class, int.class, int.class)
+                        .newInstance(conditions, increased, rowLength, wordsPerRow);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                /*
+                The game was built without the vector kernel, the scalar one does the same.
+                 */
+                return new ScalarSpreadKernel(conditions, increased, rowLength, wordsPerRow);
+            }
+        }
+        return new ScalarSpreadKernel(conditions, increased, rowLength, wordsPerRow);
+    }
+
+    /**
+     * Collects the forest sections, which are increased by a roll, for a range of rows.
+     * The bitsets of the conditions are only read, so the rows may be collected in any order.
+     *
+     * @param directions the bits of the directions the fire spreads into
+     * @param fromRow    the first row
+     * @param toRow      the row after the last row
+     */
+    public abstract void collectIncrease(int directions, int fromRow, int toRow);
+
+    /**
+     * Applies the collected increase to the bitsets of the conditions for a range of words.
+     *
+     * @param fromWord the first word
+     * @param toWord   the word after the last word
+     */
+    public abstract void applyIncrease(int fromWord, int toWord);
+
+    /**
+     * Collects the increase of a single word.
+     *
+     * @param directions the bits of the directions the fire spreads into
+     * @param row        the row of the word
+     * @param word       the index of the word
+     */
+    protected final void collectIncreaseOfWord(int directions, int row, int word) {
+        int firstWord = row * wordsPerRow;
+        long targets = 0;
+        if ((directions & NORTH) != 0 && row + 1 < rowLength) targets |= bigFire[word + wordsPerRow];
+        if ((directions & SOUTH) != 0 && row > 0) targets |= bigFire[word - wordsPerRow];
+        if ((directions & EAST) != 0) {
+            targets |= bigFire[word] << 1 | (word > firstWord ? bigFire[word - 1] >>> LAST_BIT : 0);
+        }
+        if ((directions & WEST) != 0) {
+            targets |= bigFire[word] >>> 1 | (word + 1 < firstWord + wordsPerRow ? bigFire[word + 1] << LAST_BIT : 0);
+        }
+        /*
+        Bits shifted out of the board are dropped, because they are no forest section.
+         */
+        increased[word] = targets & (dry[word] | wet[word]) | smallFire[word];
+    }
+
+    /**
+     * Applies the collected increase to a single word.
+     *
+     * @param word the index of the word
+     */
+    protected final void applyIncreaseOfWord(int word) {
+        long increase = increased[word];
+        bigFire[word] |= smallFire[word];
+        smallFire[word] = dry[word] & increase;
+        dry[word] = dry[word] & ~increase | wet[word] & increase;
+        wet[word] &= ~increase;
+    }
+}
@@ -4,9 +4,15 @@ import edu.kit.stephan.firecracker.model.firebreaker.FireBrigade;
 import edu.kit.stephan.firecracker.model.firebreaker.Position;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -86,10 +92,19 @@ public class Player {
      * @throws SemanticsException the semantics exception which gets thrown if the player has not enough points.
      */
     public FireBrigade createFireBrigade() throws SemanticsException {
-        if (reputationPoints < POINTS_TO_BUY_BRIGADE) throw new SemanticsException(Errors.NOT_ENOUGH_REPUTATION);
+        if (!canBuyFireBrigade()) throw new SemanticsException(Errors.NOT_ENOUGH_REPUTATION);
         return new FireBrigade(nameOfPlayer + numberOfFireBrigades);
     }
 
+    /**
+     * Method to determine if the player has enough reputation points to buy a fire brigade.
+     *
+     * @return true -> if a fire brigade can be bought
+     */
+    public boolean canBuyFireBrigade() {
+        return reputationPoints >= POINTS_TO_BUY_BRIGADE;
+    }
+
     /**
      * Adds fire brigade to the playerList.
      *
@@ -107,7 +122,7 @@ public class Player {
      * @return the position of base
      */
     public Position getPositionOfBase() {
-        return new Position(positionOfBase.getXCoordinate(), positionOfBase.getYCoordinate());
+        return positionOfBase;
     }
 
     /**
@@ -171,6 +186,15 @@ public class Player {
         }
     }
 
+    /**
+     * Gets the fire brigades of the player, sorted by their identifier.
+     *
+     * @return an unmodifiable view of the fire brigades
+     */
+    public Set<FireBrigade> getFireBrigades() {
+        return Collections.unmodifiableSet(fireBrigades);
+    }
+
     /**
      * Method to determine if a player is alive.
      *
@@ -181,6 +205,45 @@ public class Player {
         return !fireBrigades.isEmpty();
     }
 
+    /**
+     * Writes the reputation and the fire brigades of the player into a checkpoint.
+     *
+     * @param output the output of the checkpoint
+     * @throws IOException if the checkpoint could not be written
+     */
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        output.writeInt(reputationPoints);
+        output.writeInt(numberOfFireBrigades);
+        output.writeInt(fireBrigades.size());
+        for (FireBrigade fireBrigade : fireBrigades) {
+            fireBrigade.writeCheckpoint(output);
+        }
+    }
+
+    /**
+     * Replaces the reputation and the fire brigades of the player with the ones of a checkpoint.
+     *
+     * @param input            the input of the checkpoint
+     * @param fireBrigadesRead the map every fire brigade read is added to by its identifier
+     * @throws IOException     if the checkpoint could not be read
+     * @throws SyntaxException if the checkpoint is corrupt
+     */
+    public void readCheckpoint(DataInput input, Map<String, FireBrigade> fireBrigadesRead)
+            throws IOException, SyntaxException {
+        reputationPoints = input.readInt();
+        numberOfFireBrigades = input.readInt();
+        int size = input.readInt();
+        if (size < 0 || size > numberOfFireBrigades) throw new SyntaxException(Errors.CHECKPOINT_IS_CORRUPT);
+        fireBrigades.clear();
+        for (int i = 0; i < size; i++) {
+            FireBrigade fireBrigade = FireBrigade.readCheckpoint(input);
+            if (fireBrigadesRead.put(fireBrigade.getUniqueIdentifier(), fireBrigade) != null) {
+                throw new SyntaxException(Errors.CHECKPOINT_IS_CORRUPT);
+            }
+            fireBrigades.add(fireBrigade);
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder output = new StringBuilder();
@@ -4,9 +4,13 @@ import edu.kit.stephan.firecracker.model.firebreaker.FireBrigade;
 import edu.kit.stephan.firecracker.model.firebreaker.Position;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
 import edu.kit.stephan.firecracker.core.Pair;
 import edu.kit.stephan.firecracker.core.Triple;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -128,6 +132,15 @@ public class PlayerManagement {
         return currentPlayer.getReputationPoints();
     }
 
+    /**
+     * Method to determine if the current player has enough reputation points to buy a fire brigade.
+     *
+     * @return true -> if the current player can buy a fire brigade
+     */
+    public boolean currentPlayerCanBuyFireBrigade() {
+        return currentPlayer.canBuyFireBrigade();
+    }
+
     /**
      * Increases the reputation of the current player.
      */
@@ -135,6 +148,15 @@ public class PlayerManagement {
         currentPlayer.increaseReputation();
     }
 
+    /**
+     * Gets the fire brigades of the current player, sorted by their identifier.
+     *
+     * @return an unmodifiable view of the fire brigades
+     */
+    public Set<FireBrigade> getFireBrigadesOfCurrentPlayer() {
+        return currentPlayer.getFireBrigades();
+    }
+
     /**
      * Gets the string representation of the current player.
      *
@@ -177,6 +199,76 @@ public class PlayerManagement {
         throw new IllegalAccessError();
     }
 
+    /**
+     * Writes the turn order, the dead players and every player into a checkpoint.
+     *
+     * @param output the output of the checkpoint
+     * @throws IOException if the checkpoint could not be written
+     */
+    public void writeCheckpoint(DataOutput output) throws IOException {
+        Player[] players = playersInOrder();
+        output.writeInt(counterPerRound);
+        output.writeInt(counterForInitialization);
+        output.writeInt(indexOfPlayer(players, currentPlayer));
+        output.writeInt(indexOfPlayer(players, startPlayer));
+        output.writeInt(indexOfPlayer(players, playerForInitialization));
+        for (Player player : players) {
+            output.writeBoolean(playerWhoAreDead.contains(player));
+            player.writeCheckpoint(output);
+        }
+    }
+
+    /**
+     * Replaces the turn order, the dead players and every player with the ones of a checkpoint.
+     *
+     * @param input            the input of the checkpoint
+     * @param fireBrigadesRead the map every fire brigade read is added to by its identifier
+     * @throws IOException     if the checkpoint could not be read
+     * @throws SyntaxException if the checkpoint is corrupt
+     */
+    public void readCheckpoint(DataInput input, Map<String, FireBrigade> fireBrigadesRead)
+            throws IOException, SyntaxException {
+        Player[] players = playersInOrder();
+        counterPerRound = input.readInt();
+        counterForInitialization = input.readInt();
+        currentPlayer = readPlayer(input, players);
+        startPlayer = readPlayer(input, players);
+        playerForInitialization = readPlayer(input, players);
+        playerWhoAreDead.clear();
+        for (Player player : players) {
+            if (input.readBoolean()) playerWhoAreDead.add(player);
+            player.readCheckpoint(input, fireBrigadesRead);
+        }
+    }
+
+    /*
+    The players in the order of their turns, starting with player A.
+     */
+    private Player[] playersInOrder() {
+        Player[] players = new Player[AMOUNT_OF_PLAYERS];
+        players[0] = playerMap.keySet().stream()
+                .filter(player -> player.getNameOfPlayer().equals(Player.REPRESENTATION_FOR_PLAYER_A))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        for (int i = 1; i < AMOUNT_OF_PLAYERS; i++) {
+            players[i] = playerMap.get(players[i - 1]);
+        }
+        return players;
+    }
+
+    private static int indexOfPlayer(Player[] players, Player player) {
+        for (int i = 0; i < players.length; i++) {
+            if (players[i] == player) return i;
+        }
+        throw new IllegalStateException(Errors.NOT_IMPLEMENTED);
+    }
+
+    private static Player readPlayer(DataInput input, Player[] players) throws IOException, SyntaxException {
+        int index = input.readInt();
+        if (index < 0 || index >= players.length) throw new SyntaxException(Errors.CHECKPOINT_IS_CORRUPT);
+        return players[index];
+    }
+
     private boolean updatePlayers() {
         boolean someOneDied = false;
         for (Player player : playerMap.keySet()) {
@@ -36,6 +36,30 @@ public final class Errors {
      * Error-Message which gets thrown when the board has not the appropriate starting fires
      */
     public static final String HAS_NO_FIRE = "There must be at least one small and one big fire";
+    /**
+     * Error-Message which gets thrown when the file of the board could not be read
+     */
+    public static final String BOARD_FILE_NOT_READABLE = "The board file could not be read";
+    /**
+     * Error-Message which gets thrown when the binary file of the board is not in the expected format
+     */
+    public static final String BOARD_FILE_IS_CORRUPT = "The binary board file is corrupt";
+    /**
+     * Error-Message which gets thrown when the file of the commands could not be read
+     */
+    public static final String COMMAND_FILE_NOT_READABLE = "The command file could not be read";
+    /**
+     * Error-Message which gets thrown when the journal could not be opened for writing
+     */
+    public static final String JOURNAL_NOT_WRITABLE = "The journal could not be written";
+    /**
+     * Error-Message which gets thrown when the journal could not be read or replayed on the game board
+     */
+    public static final String JOURNAL_IS_CORRUPT = "The journal is corrupt or does not belong to the game board";
+    /**
+     * Error-Message which gets thrown when a checkpoint of the game is not in the expected format
+     */
+    public static final String CHECKPOINT_IS_CORRUPT = "The checkpoint is corrupt";
 
 
     /*
@@ -145,6 +169,14 @@ public final class Errors {
      * Error-Message if something was not implemented, but should
      */
     public static final String NOT_IMPLEMENTED = "Should have been implemented";
+    /**
+     * Error-Message if a maintained counter of the game board does not match the board anymore
+     */
+    public static final String COUNTER_IS_INCONSISTENT = "A counter of the game board is inconsistent";
+    /**
+     * Error-Message which gets thrown when the board could not be saved
+     */
+    public static final String BOARD_FILE_NOT_WRITABLE = "The board file could not be written";
 
     private Errors() {
         throw new IllegalStateException("Utility-class constructor.");
@@ -0,0 +1,136 @@
+package edu.kit.stephan.firecracker.simulation;
+
+import edu.kit.stephan.firecracker.model.firebreaker.CardinalDirection;
+import edu.kit.stephan.firecracker.model.firebreaker.GameHandlerFireBreaker;
+import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
+import edu.kit.stephan.firecracker.model.resources.SemanticsException;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class models a simulator, which plays many games on one game board without any input or output.
+ * Every game has its own copy of the game board and its own game, so the games are played in parallel
+ * on the fork/join pool. The fire is rolled uniformly at random.
+ * The random number generator of a game only depends on the seed and the number of the game,
+ * so the result of a seed is the same for every number of threads.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class MonteCarloSimulator {
+    /**
+     * The maximum number of rounds a game is played, longer games are counted as undecided.
+     */
+    public static final int MAXIMUM_ROUNDS = 1 << 12;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int MINIMUM_GAMES_PER_TASK = 64;
+    private static final int TASKS_PER_THREAD = 8;
+    private static final CardinalDirection[] CARDINAL_DIRECTIONS = CardinalDirection.values();
+
+    private final int numberOfGames;
+    private final long seed;
+    private final PlayerPolicy playerPolicy;
+
+    /**
+     * Instantiates a new simulator.
+     *
+     * @param numberOfGames the number of games to play
+     * @param seed          the seed of the random number generators
+     * @param playerPolicy  the policy every player plays with
+     */
+    public MonteCarloSimulator(int numberOfGames, long seed, PlayerPolicy playerPolicy) {
+        this.numberOfGames = numberOfGames;
+        this.seed = seed;
+        this.playerPolicy = playerPolicy;
+    }
+
+    /**
+     * Plays every game on the common fork/join pool.
+     *
+     * @param gameBoard the game board every game starts with, which is not changed
+     * @return the result of the games
+     */
+    public SimulationResult run(GameBoard gameBoard) {
+        int gamesPerTask = Math.max(MINIMUM_GAMES_PER_TASK
+                , numberOfGames / (ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD));
+        long start = System.nanoTime();
+        SimulationResult result = ForkJoinPool.commonPool()
+                .invoke(new SimulationTask(gameBoard, 0, numberOfGames, gamesPerTask));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private void playGame(GameBoard gameBoard, int numberOfGame, SimulationResult result) {
+        SplittableRandom random = new SplittableRandom(mix(seed + GOLDEN_GAMMA * (numberOfGame + 1)));
+        GameHandlerFireBreaker gameHandlerFireBreaker = new GameHandlerFireBreaker(gameBoard.getGameBoardCopied());
+        int rounds = 0;
+        try {
+            while (!gameHandlerFireBreaker.isGameOver()) {
+                if (gameHandlerFireBreaker.needsToRoll()) {
+                    if (rounds == MAXIMUM_ROUNDS) {
+                        result.addUndecidedGame();
+                        return;
+                    }
+                    rounds++;
+                    gameHandlerFireBreaker.fireToRollCommand(CARDINAL_DIRECTIONS[random.nextInt(
+                            CARDINAL_DIRECTIONS.length)]);
+                    continue;
+                }
+                playerPolicy.playTurn(gameHandlerFireBreaker, random);
+                if (!gameHandlerFireBreaker.isGameOver()) gameHandlerFireBreaker.turnCommand();
+            }
+        } catch (SemanticsException e) {
+            /*
+            Only commands, which are allowed in the current phase, are executed.
+             */
+            throw new IllegalStateException(e);
+        }
+        result.addDecidedGame(gameHandlerFireBreaker.isGameWon(), rounds);
+    }
+
+    /*
+    The finalizer of SplittableRandom, so neighbouring numbers of games get unrelated seeds.
+     */
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return mixed ^ (mixed >>> 33);
+    }
+
+    /**
+     * This class models the games of a range of numbers, which is split until it is small enough.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient GameBoard gameBoard;
+        private final int from;
+        private final int to;
+        private final int gamesPerTask;
+
+        private SimulationTask(GameBoard gameBoard, int from, int to, int gamesPerTask) {
+            this.gameBoard = gameBoard;
+            this.from = from;
+            this.to = to;
+            this.gamesPerTask = gamesPerTask;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from > gamesPerTask) {
+                int middle = (from + to) >>> 1;
+                SimulationTask right = new SimulationTask(gameBoard, middle, to, gamesPerTask);
+                right.fork();
+                SimulationResult left = new SimulationTask(gameBoard, from, middle, gamesPerTask).compute();
+                return left.merge(right.join());
+            }
+            SimulationResult result = new SimulationResult(MAXIMUM_ROUNDS);
+            for (int numberOfGame = from; numberOfGame < to; numberOfGame++) {
+                playGame(gameBoard, numberOfGame, result);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package edu.kit.stephan.firecracker.simulation;
+
+import edu.kit.stephan.firecracker.model.firebreaker.GameHandlerFireBreaker;
+
+import java.util.SplittableRandom;
+
+/**
+ * This interface describes how the current player of a simulated game plays a turn.
+ * A policy executes the commands of the turn on the game, ending the turn is left to the simulator.
+ * A policy is shared by every game of a simulation, so it must not keep state between calls.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public interface PlayerPolicy {
+    /**
+     * Plays the turn of the current player.
+     *
+     * @param gameHandlerFireBreaker the game, which is not over and does not need to be rolled
+     * @param random                 the random number generator of the game
+     */
+    void playTurn(GameHandlerFireBreaker gameHandlerFireBreaker, SplittableRandom random);
+}
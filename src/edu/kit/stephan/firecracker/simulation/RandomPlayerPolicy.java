@@ -0,0 +1,64 @@
+package edu.kit.stephan.firecracker.simulation;
+
+import edu.kit.stephan.firecracker.model.firebreaker.ActionBuffer;
+import edu.kit.stephan.firecracker.model.firebreaker.ActionType;
+import edu.kit.stephan.firecracker.model.firebreaker.GameHandlerFireBreaker;
+import edu.kit.stephan.firecracker.model.firebreaker.Position;
+import edu.kit.stephan.firecracker.model.resources.SemanticsException;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class models a policy, which picks uniformly at random out of the legal actions of the current player
+ * until it picks turn or the game is over. The legal actions are generated by the game,
+ * so no command is tried in vain.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class RandomPlayerPolicy implements PlayerPolicy {
+    /*
+    The buffer only lives during one call, it is kept per thread so filling it creates no objects.
+     */
+    private static final ThreadLocal<ActionBuffer> ACTIONS = ThreadLocal.withInitial(ActionBuffer::new);
+
+    @Override
+    public void playTurn(GameHandlerFireBreaker gameHandlerFireBreaker, SplittableRandom random) {
+        ActionBuffer actions = ACTIONS.get();
+        while (!gameHandlerFireBreaker.isGameOver()) {
+            gameHandlerFireBreaker.generateLegalActions(actions);
+            int index = random.nextInt(actions.size());
+            if (actions.getType(index) == ActionType.TURN) return;
+            try {
+                perform(gameHandlerFireBreaker, actions, index);
+            } catch (SemanticsException e) {
+                /*
+                Only legal actions are performed.
+                 */
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void perform(GameHandlerFireBreaker gameHandlerFireBreaker, ActionBuffer actions, int index)
+            throws SemanticsException {
+        switch (actions.getType(index)) {
+            case MOVE:
+                gameHandlerFireBreaker.moveCommand(actions.getFireBrigade(index).getUniqueIdentifier()
+                        , Position.unpack(actions.getPackedPosition(index)));
+                break;
+            case EXTINGUISH:
+                gameHandlerFireBreaker.extinguishCommand(actions.getFireBrigade(index).getUniqueIdentifier()
+                        , Position.unpack(actions.getPackedPosition(index)));
+                break;
+            case REFILL:
+                gameHandlerFireBreaker.refillFireBrigadeCommand(actions.getFireBrigade(index).getUniqueIdentifier());
+                break;
+            case BUY_FIRE_ENGINE:
+                gameHandlerFireBreaker.buyFireEngineCommand(Position.unpack(actions.getPackedPosition(index)));
+                break;
+            default:
+                throw new IllegalStateException(actions.getType(index).name());
+        }
+    }
+}
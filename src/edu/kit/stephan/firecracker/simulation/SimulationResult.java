@@ -0,0 +1,143 @@
+package edu.kit.stephan.firecracker.simulation;
+
+import edu.kit.stephan.firecracker.core.Renderable;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class models the result of simulated games: how many were won, lost or not decided
+ * and after how many rounds the decided games ended.
+ * Results of parts of a simulation are merged, the order in which they are merged does not matter.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class SimulationResult implements Renderable {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final long[] gamesPerRounds;
+    private long wonGames;
+    private long lostGames;
+    private long undecidedGames;
+    private long elapsedNanos;
+
+    /**
+     * Instantiates a new result without any game.
+     *
+     * @param maximumRounds the maximum number of rounds a game is played
+     */
+    public SimulationResult(int maximumRounds) {
+        this.gamesPerRounds = new long[maximumRounds + 1];
+    }
+
+    /**
+     * Adds a decided game.
+     *
+     * @param won    true -> if the game was won, false -> if it was lost
+     * @param rounds the number of rounds until the game ended
+     */
+    public void addDecidedGame(boolean won, int rounds) {
+        if (won) {
+            wonGames++;
+        } else {
+            lostGames++;
+        }
+        gamesPerRounds[rounds]++;
+    }
+
+    /**
+     * Adds a game, which did not end within the maximum number of rounds.
+     */
+    public void addUndecidedGame() {
+        undecidedGames++;
+    }
+
+    /**
+     * Adds the games of another result to this one.
+     *
+     * @param other the other result with the same maximum number of rounds
+     * @return this result
+     */
+    public SimulationResult merge(SimulationResult other) {
+        wonGames += other.wonGames;
+        lostGames += other.lostGames;
+        undecidedGames += other.undecidedGames;
+        for (int i = 0; i < gamesPerRounds.length; i++) {
+            gamesPerRounds[i] += other.gamesPerRounds[i];
+        }
+        return this;
+    }
+
+    /**
+     * Sets the time the simulation took.
+     *
+     * @param elapsedNanos the time in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return the number of games
+     */
+    public long getNumberOfGames() {
+        return wonGames + lostGames + undecidedGames;
+    }
+
+    /**
+     * Gets the number of won games.
+     *
+     * @return the number of won games
+     */
+    public long getWonGames() {
+        return wonGames;
+    }
+
+    /**
+     * Gets the number of lost games.
+     *
+     * @return the number of lost games
+     */
+    public long getLostGames() {
+        return lostGames;
+    }
+
+    /**
+     * Gets the number of games, which did not end within the maximum number of rounds.
+     *
+     * @return the number of undecided games
+     */
+    public long getUndecidedGames() {
+        return undecidedGames;
+    }
+
+    /**
+     * Writes the counts, the win rate, one line "rounds,games" for every number of rounds a decided game ended
+     * after and at last the games per second, which is the only part depending on the machine.
+     *
+     * @param sink the sink to write to
+     * @throws IOException if the sink could not be written
+     */
+    @Override
+    public void renderTo(Appendable sink) throws IOException {
+        long numberOfGames = getNumberOfGames();
+        double winRate = numberOfGames == 0 ? 0 : 100.0 * wonGames / numberOfGames;
+        sink.append("games: ").append(Long.toString(numberOfGames)).append(LINE_SEPARATOR);
+        sink.append("won: ").append(Long.toString(wonGames))
+                .append(String.format(Locale.ROOT, " (%.2f%%)", winRate)).append(LINE_SEPARATOR);
+        sink.append("lost: ").append(Long.toString(lostGames)).append(LINE_SEPARATOR);
+        sink.append("undecided: ").append(Long.toString(undecidedGames)).append(LINE_SEPARATOR);
+        sink.append("rounds,games").append(LINE_SEPARATOR);
+        for (int rounds = 0; rounds < gamesPerRounds.length; rounds++) {
+            if (gamesPerRounds[rounds] == 0) continue;
+            sink.append(Integer.toString(rounds)).append(',').append(Long.toString(gamesPerRounds[rounds]))
+                    .append(LINE_SEPARATOR);
+        }
+        double seconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+        sink.append(String.format(Locale.ROOT, "games/s: %.1f", seconds == 0 ? 0 : numberOfGames / seconds));
+    }
+}
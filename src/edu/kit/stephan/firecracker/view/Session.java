@@ -1,18 +1,20 @@
 package edu.kit.stephan.firecracker.view;
 
 
+import edu.kit.stephan.firecracker.core.SingleProducerSingleConsumerQueue;
+import edu.kit.stephan.firecracker.view.command.Command;
+import edu.kit.stephan.firecracker.view.command.CommandJournal;
 import edu.kit.stephan.firecracker.view.command.CommandParser;
 import edu.kit.stephan.firecracker.view.command.Result;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SyntaxException;
-import edu.kit.stephan.firecracker.view.command.Command;
+import edu.kit.stephan.firecracker.view.command.ParsedCommand;
 import edu.kit.stephan.firecracker.model.firebreaker.GameHandlerFireBreaker;
 import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
 import edu.kit.stephan.firecracker.core.Input;
 import edu.kit.stephan.firecracker.core.Output;
-import edu.kit.stephan.firecracker.core.Pair;
 
-import java.util.List;
+import java.nio.file.Path;
 
 
 /**
@@ -22,12 +24,17 @@ import java.util.List;
  * @version 1.0
  */
 public class Session {
+    private static final int CAPACITY_OF_PIPELINE = 1 << 12;
+    private static final String NAME_OF_READER_THREAD = "command-reader";
+
     private boolean isCodeRunning;
+    private final GameBoard gameBoard;
     private final GameHandlerFireBreaker gameHandlerFireBreaker;
     private final Output output;
     private final Output errOutput;
     private final Input input;
     private final CommandParser parser;
+    private CommandJournal journal;
 
 
     /**
@@ -40,6 +47,7 @@ public class Session {
      * @param gameBoard the game board which was parsed
      */
     public Session(Output output, Output errOutput, Input input, CommandParser parser, GameBoard gameBoard) {
+        this.gameBoard = gameBoard;
         this.gameHandlerFireBreaker = new GameHandlerFireBreaker(gameBoard);
         this.parser = parser;
         this.input = input;
@@ -47,45 +55,135 @@ public class Session {
         this.errOutput = errOutput;
     }
 
+    /**
+     * Replays a journal on the game before it is started, starting at its checkpoint if it has one.
+     *
+     * @param path the path of the journal
+     * @return the length of the replayed journal in bytes
+     * @throws SyntaxException if the journal could not be replayed
+     */
+    public long replay(Path path) throws SyntaxException {
+        return CommandJournal.replay(path, gameBoard, gameHandlerFireBreaker);
+    }
+
+    /**
+     * Writes every command, which changes the game, into a journal from now on.
+     * The journal is closed when the game ends.
+     *
+     * @param path                 the path of the journal
+     * @param lengthToKeep         the length of the journal to continue, see {@link #replay}, or 0 to start a new one
+     * @param recordsPerCheckpoint the number of records between two checkpoints, 0 for no checkpoints
+     * @throws SyntaxException if the journal could not be opened
+     */
+    public void startJournal(Path path, long lengthToKeep, int recordsPerCheckpoint) throws SyntaxException {
+        journal = CommandJournal.open(path, gameBoard, gameHandlerFireBreaker, lengthToKeep, recordsPerCheckpoint);
+    }
+
     /**
      * Method which starts the FireBreaker - Game
      */
     public void interactive() {
         gameHandlerFireBreaker.initialize(output);
         isCodeRunning = true;
-        while (isCodeRunning) {
-            processSingleCommand();
+        try {
+            while (isCodeRunning) {
+                processSingleCommand();
+            }
+        } finally {
+            closeJournal();
         }
     }
 
 
-    private void processSingleCommand() {
-        String inputUser = input.read(); //Scanner.readline()
-        Pair<String, List<String>> parsedArguments; //command , Parameter
+    /**
+     * Method which starts the FireBreaker - Game with a pipeline. A reader thread reads and parses the commands
+     * and queues them in their order, while this thread executes them. The reader stops after quit or the end
+     * of the input, so nothing after quit is read.
+     */
+    public void pipelined() {
+        gameHandlerFireBreaker.initialize(output);
+        SingleProducerSingleConsumerQueue<PipelinedLine> pipeline
+                = new SingleProducerSingleConsumerQueue<>(CAPACITY_OF_PIPELINE);
+        Thread reader = new Thread(() -> readCommands(pipeline), NAME_OF_READER_THREAD);
+        /*
+        The reader may still wait for input if this thread fails.
+         */
+        reader.setDaemon(true);
+        reader.start();
+        isCodeRunning = true;
+        try {
+            while (isCodeRunning) {
+                processPipelinedLine(pipeline.take());
+            }
+        } finally {
+            closeJournal();
+        }
+    }
+
+    private void closeJournal() {
+        if (journal != null) journal.close();
+    }
 
+    private void readCommands(SingleProducerSingleConsumerQueue<PipelinedLine> pipeline) {
         try {
-            parsedArguments = parser.parseCommand(inputUser);
-        } catch (SyntaxException e) {
-            errOutput.output(e.getMessage());
-            return;
+            while (true) {
+                String inputUser = input.read();
+                if (inputUser == null) {
+                    pipeline.put(PipelinedLine.END_OF_INPUT);
+                    return;
+                }
+                ParsedCommand parsedCommand;
+                try {
+                    parsedCommand = parser.parseCommand(inputUser);
+                } catch (SyntaxException e) {
+                    pipeline.put(new PipelinedLine(null, e.getMessage(), null));
+                    continue;
+                }
+                pipeline.put(new PipelinedLine(parsedCommand, null, null));
+                if (parsedCommand.getCommand() == Command.QUIT) return;
+            }
+        } catch (RuntimeException e) {
+            pipeline.put(new PipelinedLine(null, null, e));
         }
-        String command = parsedArguments.getFirstElement();
-        List<String> parameters = parsedArguments.getSecondElement();
+    }
 
-        executeSingleCommand(command, parameters);
+    private void processPipelinedLine(PipelinedLine line) {
+        if (line == PipelinedLine.END_OF_INPUT) {
+            isCodeRunning = false;
+        } else if (line.failure != null) {
+            throw line.failure;
+        } else if (line.error != null) {
+            errOutput.output(line.error);
+        } else {
+            executeSingleCommand(line.parsedCommand);
+        }
     }
 
-    private void executeSingleCommand(String commandName, List<String> parameters) {
-        Result result;
+    private void processSingleCommand() {
+        String inputUser = input.read(); //Scanner.readline()
+        if (inputUser == null) {
+            isCodeRunning = false;
+            return;
+        }
+        ParsedCommand parsedCommand;
 
         try {
-            result = Command.getCommand(commandName).executeCommand(parameters, gameHandlerFireBreaker);
+            parsedCommand = parser.parseCommand(inputUser);
         } catch (SyntaxException e) {
-            result = new Result(Result.ResultType.FAILURE, e.getMessage());
+            errOutput.output(e.getMessage());
+            return;
         }
+        executeSingleCommand(parsedCommand);
+    }
+
+    private void executeSingleCommand(ParsedCommand parsedCommand) {
+        Result result = parsedCommand.getCommand().executeCommand(parsedCommand, gameHandlerFireBreaker);
+        if (journal != null && result.getType() == Result.ResultType.SUCCESS) journal.append(parsedCommand);
         switch (result.getType()) {
             case SUCCESS:
-                if (result.getMessage() != null) {
+                if (result.getRenderable() != null) {
+                    output.render(result.getRenderable());
+                } else if (result.getMessage() != null) {
                     output.output(result.getMessage());
                 } else {
                     isCodeRunning = false;
@@ -102,4 +200,22 @@ public class Session {
                 throw new IllegalStateException(Errors.NOT_IMPLEMENTED);
         }
     }
+
+    /**
+     * This class models a line read by the reader thread, which is either a parsed command, a syntax error
+     * or a failure of the input.
+     */
+    private static final class PipelinedLine {
+        private static final PipelinedLine END_OF_INPUT = new PipelinedLine(null, null, null);
+
+        private final ParsedCommand parsedCommand;
+        private final String error;
+        private final RuntimeException failure;
+
+        private PipelinedLine(ParsedCommand parsedCommand, String error, RuntimeException failure) {
+            this.parsedCommand = parsedCommand;
+            this.error = error;
+            this.failure = failure;
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package edu.kit.stephan.firecracker.view.board;
+
+/**
+ * This interface describes the textual representation of a game board, which is read character by character.
+ * Its length is a long, so a source is not limited to the size of a string.
+ * Characters may be read from several threads at once.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public interface BoardSource {
+
+    /**
+     * Gets the number of characters of the source.
+     *
+     * @return the length
+     */
+    long length();
+
+    /**
+     * Gets the character at an index.
+     *
+     * @param index the index, which needs to be smaller than {@link #length()}
+     * @return the character
+     */
+    int charAt(long index);
+}
@@ -0,0 +1,322 @@
+package edu.kit.stephan.firecracker.view.board;
+
+import edu.kit.stephan.firecracker.model.firebreaker.board.Forest.ConditionOfForestSection;
+import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
+import edu.kit.stephan.firecracker.model.firebreaker.board.Lake;
+import edu.kit.stephan.firecracker.model.firebreaker.board.PackedCell;
+import edu.kit.stephan.firecracker.model.firebreaker.player.Player;
+import edu.kit.stephan.firecracker.model.resources.Errors;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * This class models a parser of the textual representation of a game board: rows,columns followed by every field.
+ * The source is read once from the start to the end and the fields are packed directly into the game board,
+ * so no string is created per field. Big boards are parsed in parallel chunks.
+ * The errors are the same as reported by matching the input against the regex of the game board:
+ * a field which is not allowed anywhere is reported before a wrong size and a field at the wrong place after it.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class GameBoardParser {
+    private static final char INPUT_SEPARATOR = ',';
+    private static final char INDEX_OF_FIRST_STATION = '0';
+    private static final char FIRST_DIGIT = '0';
+    private static final char LAST_DIGIT = '9';
+    private static final int BASE_OF_NUMBERS = 10;
+    private static final int NO_TOKEN = -1;
+    /*
+    A fire brigade like A0 is marked by a bit above every character, so it never equals a single character.
+     */
+    private static final int FIRE_BRIGADE_TOKEN = 1 << Character.SIZE;
+    private static final int FOREST_TOKEN = -2;
+    private static final int STATION_A = Player.REPRESENTATION_FOR_PLAYER_A.charAt(0);
+    private static final int STATION_B = Player.REPRESENTATION_FOR_PLAYER_B.charAt(0);
+    private static final int STATION_C = Player.REPRESENTATION_FOR_PLAYER_C.charAt(0);
+    private static final int STATION_D = Player.REPRESENTATION_FOR_PLAYER_D.charAt(0);
+    private static final int LAKE = Lake.REPRESENTATION_OF_LAKE.charAt(0);
+    private static final int SMALL_FIRE = ConditionOfForestSection.SMALL_FIRE.getRepresentationAsString().charAt(0);
+    private static final int BIG_FIRE = ConditionOfForestSection.BIG_FIRE.getRepresentationAsString().charAt(0);
+    private static final int NUMBER_OF_ASCII_CHARACTERS = 128;
+    private static final byte NO_FOREST = -1;
+    private static final byte[] FOREST_OF_TOKEN = createForestOfToken();
+    private static final long MAXIMUM_NUMBER_OF_CELLS = Integer.MAX_VALUE - 8;
+    private static final int HAS_SMALL_FIRE = 1;
+    private static final int HAS_BIG_FIRE = 2;
+    private static final long MINIMUM_CELLS_TO_PARSE_PARALLEL = 1 << 20;
+    private static final long CHARACTERS_PER_CHUNK = 1 << 20;
+    private static final long MAXIMUM_NUMBER_OF_CHUNKS = 1 << 16;
+
+    private final BoardSource source;
+    private final long length;
+    private long position;
+
+    /**
+     * Instantiates a new game board parser.
+     *
+     * @param source the textual representation of the game board
+     */
+    public GameBoardParser(BoardSource source) {
+        this.source = source;
+        this.length = source.length();
+    }
+
+    /**
+     * Parses the source into a game board.
+     *
+     * @return the parsed game board
+     * @throws SyntaxException if the source is not a valid game board
+     */
+    public GameBoard parseGameBoard() throws SyntaxException {
+        long rowLength = readDimension();
+        long columnLength = readDimension();
+        String errorOfDimension = checkDimension(rowLength);
+        if (errorOfDimension == null) errorOfDimension = checkDimension(columnLength);
+        if (errorOfDimension != null) {
+            checkFieldsAreAllowed();
+            throw new SyntaxException(errorOfDimension);
+        }
+
+        long numberOfCells = rowLength * columnLength;
+        /*
+        Every field needs at least one character and a separator, so too many fields can never match.
+         */
+        if (numberOfCells > (length - position + 1) / 2) throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+        if (numberOfCells > MAXIMUM_NUMBER_OF_CELLS) {
+            checkFieldsAreAllowed();
+            throw new SyntaxException(Errors.FIELD_SIZE_TO_BIG);
+        }
+        byte[] cells = new byte[(int) numberOfCells];
+        int fires = numberOfCells >= MINIMUM_CELLS_TO_PARSE_PARALLEL && ForkJoinPool.getCommonPoolParallelism() > 1
+                ? parseCellsParallel(cells, rowLength, columnLength)
+                : parseCells(position, length + 1, 0, cells, rowLength, columnLength);
+        if (fires != (HAS_SMALL_FIRE | HAS_BIG_FIRE)) throw new SyntaxException(Errors.HAS_NO_FIRE);
+        return new GameBoard((int) rowLength, (int) columnLength, cells);
+    }
+
+    /*
+    Splits the fields into chunks, which end behind a separator. The chunks are counted in parallel first,
+    so every chunk knows the index of its first field, and are then parsed in parallel on the common fork/join pool.
+     */
+    private int parseCellsParallel(byte[] cells, long rowLength, long columnLength) throws SyntaxException {
+        long[] startOfChunk = splitIntoChunks();
+        int numberOfChunks = startOfChunk.length - 1;
+        long[] tokensOfChunk = new long[numberOfChunks];
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> tokensOfChunk[chunk]
+                = countTokens(startOfChunk[chunk], startOfChunk[chunk + 1]));
+
+        int[] firstCellOfChunk = new int[numberOfChunks + 1];
+        long numberOfTokens = 0;
+        for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+            firstCellOfChunk[chunk] = (int) Math.min(numberOfTokens, cells.length);
+            numberOfTokens += tokensOfChunk[chunk];
+        }
+        if (numberOfTokens != cells.length) throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+        firstCellOfChunk[numberOfChunks] = cells.length;
+
+        int[] firesOfChunk = new int[numberOfChunks];
+        boolean[] chunkIsWrong = new boolean[numberOfChunks];
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> {
+            try {
+                firesOfChunk[chunk] = parseCells(startOfChunk[chunk], startOfChunk[chunk + 1]
+                        , firstCellOfChunk[chunk], firstCellOfChunk[chunk + 1], cells, rowLength, columnLength);
+            } catch (SyntaxException e) {
+                chunkIsWrong[chunk] = true;
+            }
+        });
+        int fires = 0;
+        for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+            if (chunkIsWrong[chunk]) throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+            fires |= firesOfChunk[chunk];
+        }
+        return fires;
+    }
+
+    private long[] splitIntoChunks() {
+        int numberOfChunks = (int) Math.min(MAXIMUM_NUMBER_OF_CHUNKS, (length - position) / CHARACTERS_PER_CHUNK + 1);
+        long[] startOfChunk = new long[numberOfChunks + 1];
+        startOfChunk[0] = position;
+        for (int chunk = 1; chunk < numberOfChunks; chunk++) {
+            long start = Math.max(startOfChunk[chunk - 1], position + chunk * ((length - position) / numberOfChunks));
+            while (start < length && source.charAt(start) != INPUT_SEPARATOR) {
+                start++;
+            }
+            startOfChunk[chunk] = Math.min(start + 1, length + 1);
+        }
+        /*
+        The last field is not followed by a separator, so the end lies one behind the source.
+         */
+        startOfChunk[numberOfChunks] = length + 1;
+        return startOfChunk;
+    }
+
+    private long countTokens(long start, long end) {
+        long tokens = 0;
+        for (long i = start; i < Math.min(end, length); i++) {
+            if (source.charAt(i) == INPUT_SEPARATOR) tokens++;
+        }
+        if (end > length && start <= length) tokens++;
+        return tokens;
+    }
+
+    private int parseCells(long start, long end, int firstCell, byte[] cells, long rowLength, long columnLength)
+            throws SyntaxException {
+        return parseCells(start, end, firstCell, cells.length, cells, rowLength, columnLength);
+    }
+
+    /*
+    Parses every field between start and end into the cells from firstCell up to endCell,
+    the number of fields needs to match exactly.
+     */
+    private int parseCells(long start, long end, int firstCell, int endCell, byte[] cells
+            , long rowLength, long columnLength) throws SyntaxException {
+        int fires = 0;
+        int cell = firstCell;
+        long startOfToken = start;
+        while (startOfToken < end) {
+            long endOfToken = findEndOfToken(startOfToken);
+            if (cell == endCell) throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+            int token = toToken(startOfToken, endOfToken);
+            int expectedToken = findExpectedToken(cell, rowLength, columnLength);
+            if (expectedToken == FOREST_TOKEN ? !isForest(token) : token != expectedToken) {
+                throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+            }
+            if (token == SMALL_FIRE) fires |= HAS_SMALL_FIRE;
+            if (token == BIG_FIRE) fires |= HAS_BIG_FIRE;
+            cells[cell] = toPackedCell(token);
+            cell++;
+            startOfToken = endOfToken + 1;
+        }
+        if (cell != endCell) throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+        return fires;
+    }
+
+    private long readDimension() throws SyntaxException {
+        long start = position;
+        long dimension = 0;
+        while (position < length && isDigit(source.charAt(position))) {
+            /*
+            Saturate above the int range, the exact value of a too big number does not matter.
+             */
+            dimension = Math.min(dimension * BASE_OF_NUMBERS + source.charAt(position) - FIRST_DIGIT
+                    , Integer.MAX_VALUE + 1L);
+            position++;
+        }
+        if (position == start || position == length || source.charAt(position) != INPUT_SEPARATOR
+                || (source.charAt(position - 1) - FIRST_DIGIT) % 2 == 0) {
+            throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+        }
+        position++;
+        return dimension;
+    }
+
+    private static String checkDimension(long dimension) {
+        if (dimension > Integer.MAX_VALUE) return Errors.FIELD_SIZE_TO_BIG;
+        if (dimension < GameBoard.MINIMUM_GAME_BOARD_SIZE) return Errors.BOARD_TO_SMALL;
+        return null;
+    }
+
+    /*
+    Checks the fields without knowing the size of the board: the first fire station, at least one field,
+    which may be anywhere on a board, and the last fire station.
+     */
+    private void checkFieldsAreAllowed() throws SyntaxException {
+        if (readToken() != STATION_A || position == length) {
+            throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+        }
+        position++;
+        boolean firstField = true;
+        while (true) {
+            int token = readToken();
+            if (position == length) {
+                if (token != STATION_B || firstField) throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+                return;
+            }
+            if (!isAllowedInside(token)) throw new SyntaxException(Errors.REGEX_OF_GAME_BOARD_IS_WRONG);
+            firstField = false;
+            position++;
+        }
+    }
+
+    private int readToken() {
+        long start = position;
+        position = findEndOfToken(start);
+        return toToken(start, position);
+    }
+
+    private long findEndOfToken(long start) {
+        long end = start;
+        while (end < length && source.charAt(end) != INPUT_SEPARATOR) {
+            end++;
+        }
+        return end;
+    }
+
+    private int toToken(long start, long end) {
+        if (end - start == 1) return source.charAt(start);
+        if (end - start == 2 && source.charAt(start + 1) == INDEX_OF_FIRST_STATION) {
+            return source.charAt(start) | FIRE_BRIGADE_TOKEN;
+        }
+        return NO_TOKEN;
+    }
+
+    private static int findExpectedToken(long cell, long rowLength, long columnLength) {
+        long numberOfCells = rowLength * columnLength;
+        /*
+        fireStations, which are in each corner.
+         */
+        if (cell == 0) return STATION_A;
+        if (cell == numberOfCells - 1) return STATION_B;
+        if (cell == columnLength - 1) return STATION_D;
+        if (cell == columnLength * (rowLength - 1)) return STATION_C;
+        /*
+        lakes, which are positioned between two fire stations.
+         */
+        if (cell == columnLength / 2 || cell == numberOfCells - (columnLength / 2 + 1)
+                || cell == rowLength / 2 * columnLength || cell == (rowLength / 2 + 1) * columnLength - 1) return LAKE;
+        /*
+        fireBrigades, which are diagonal one apart from the corresponding fire station.
+         */
+        if (cell == columnLength + 1) return STATION_A | FIRE_BRIGADE_TOKEN;
+        if (cell == 2 * columnLength - 2) return STATION_D | FIRE_BRIGADE_TOKEN;
+        if (cell == (rowLength - 2) * columnLength + 1) return STATION_C | FIRE_BRIGADE_TOKEN;
+        if (cell == (rowLength - 1) * columnLength - 2) return STATION_B | FIRE_BRIGADE_TOKEN;
+        return FOREST_TOKEN;
+    }
+
+    private static boolean isAllowedInside(int token) {
+        if ((token & FIRE_BRIGADE_TOKEN) != 0) {
+            int owner = token & ~FIRE_BRIGADE_TOKEN;
+            return owner >= STATION_A && owner <= STATION_D;
+        }
+        return token == STATION_C || token == STATION_D || token == LAKE || isForest(token);
+    }
+
+    private static boolean isForest(int token) {
+        return token >= 0 && token < NUMBER_OF_ASCII_CHARACTERS && FOREST_OF_TOKEN[token] != NO_FOREST;
+    }
+
+    private static boolean isDigit(int character) {
+        return character >= FIRST_DIGIT && character <= LAST_DIGIT;
+    }
+
+    private static byte toPackedCell(int token) {
+        if ((token & FIRE_BRIGADE_TOKEN) != 0) return PackedCell.DRY;
+        if (token == LAKE) return PackedCell.LAKE;
+        if (isForest(token)) return FOREST_OF_TOKEN[token];
+        return PackedCell.ofFireStation((char) token);
+    }
+
+    private static byte[] createForestOfToken() {
+        byte[] forestOfToken = new byte[NUMBER_OF_ASCII_CHARACTERS];
+        Arrays.fill(forestOfToken, NO_FOREST);
+        for (ConditionOfForestSection condition : ConditionOfForestSection.values()) {
+            forestOfToken[condition.getRepresentationAsString().charAt(0)] = PackedCell.ofCondition(condition);
+        }
+        return forestOfToken;
+    }
+}
@@ -0,0 +1,62 @@
+package edu.kit.stephan.firecracker.view.board;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class models a board source, which is read out of a memory mapped file.
+ * A single mapping is limited to 2 GiB, so bigger files are mapped in several chunks.
+ * The line separator at the end of the file is not part of the board.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class MappedBoardSource implements BoardSource {
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int BYTE_MASK = 0xFF;
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+
+    private final MappedByteBuffer[] chunks;
+    private final long length;
+
+    /**
+     * Maps a file into a new board source.
+     *
+     * @param path the path of the file
+     * @throws IOException if the file could not be mapped
+     */
+    public MappedBoardSource(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            this.chunks = new MappedByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = i * CHUNK_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+            }
+            this.length = lengthWithoutLineSeparator(size);
+        }
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int charAt(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) (index & CHUNK_MASK)) & BYTE_MASK;
+    }
+
+    private long lengthWithoutLineSeparator(long size) {
+        long withoutSeparator = size;
+        if (withoutSeparator > 0 && charAt(withoutSeparator - 1) == LINE_FEED) withoutSeparator--;
+        if (withoutSeparator > 0 && charAt(withoutSeparator - 1) == CARRIAGE_RETURN) withoutSeparator--;
+        return withoutSeparator;
+    }
+}
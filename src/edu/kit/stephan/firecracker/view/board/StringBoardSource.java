@@ -0,0 +1,30 @@
+package edu.kit.stephan.firecracker.view.board;
+
+/**
+ * This class models a board source, which is read out of a string, like the command-line argument.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class StringBoardSource implements BoardSource {
+    private final String input;
+
+    /**
+     * Instantiates a new string board source.
+     *
+     * @param input the textual representation of the game board
+     */
+    public StringBoardSource(String input) {
+        this.input = input;
+    }
+
+    @Override
+    public long length() {
+        return input.length();
+    }
+
+    @Override
+    public int charAt(long index) {
+        return input.charAt((int) index);
+    }
+}
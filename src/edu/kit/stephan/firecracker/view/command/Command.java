@@ -1,12 +1,16 @@
 package edu.kit.stephan.firecracker.view.command;
 
+import edu.kit.stephan.firecracker.core.Renderable;
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SemanticsException;
 import edu.kit.stephan.firecracker.model.resources.SyntaxException;
 import edu.kit.stephan.firecracker.model.firebreaker.CardinalDirection;
 import edu.kit.stephan.firecracker.model.firebreaker.GameHandlerFireBreaker;
 import edu.kit.stephan.firecracker.model.firebreaker.Position;
-import java.util.List;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The Enum which holds all the Commands and is used to execute them.
@@ -18,13 +22,13 @@ public enum Command {
     /**
      * The Move Command.
      */
-    MOVE(CommandParserFireBreaker.MOVE, CommandParserFireBreaker.REGEX_MOVE) {
+    MOVE(CommandParserFireBreaker.MOVE, CommandSyntax.FIRE_BRIGADE_AND_POSITION) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
-                resultMessage = gameHandlerFireBreaker.moveCommand(parameters.get(0)
-                        , createPositionOutOfInput(parameters.get(1), parameters.get(2)));
+                resultMessage = gameHandlerFireBreaker.moveCommand(parsedCommand.getIdentifier()
+                        , createPositionOutOfInput(parsedCommand, 0));
             } catch (SemanticsException e) {
                 return new Result(Result.ResultType.FAILURE, e.getMessage());
             }
@@ -36,9 +40,9 @@ public enum Command {
     /**
      * The Quit Command.
      */
-    QUIT(CommandParserFireBreaker.QUIT, CommandParserFireBreaker.REGEX_QUIT) {
+    QUIT(CommandParserFireBreaker.QUIT, CommandSyntax.NONE) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             return new Result(Result.ResultType.SUCCESS);
         }
     },
@@ -46,22 +50,60 @@ public enum Command {
     /**
      * The Show board Command.
      */
-    SHOW_BOARD(CommandParserFireBreaker.SHOW_BOARD, CommandParserFireBreaker.REGEX_SHOW_BOARD) {
+    SHOW_BOARD(CommandParserFireBreaker.SHOW_BOARD, CommandSyntax.OPTIONAL_RECTANGLE) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
-            return new Result(Result.ResultType.SUCCESS, gameHandlerFireBreaker.showBoardCommand());
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
+            if (parsedCommand.getNumberOfNumbers() == 0) {
+                return new Result(Result.ResultType.SUCCESS, gameHandlerFireBreaker.showBoardCommand());
+            }
+            Renderable viewport;
+            try {
+                viewport = gameHandlerFireBreaker.showBoardCommand(createPositionOutOfInput(parsedCommand, 0)
+                        , createPositionOutOfInput(parsedCommand, 2));
+            } catch (SemanticsException e) {
+                return new Result(Result.ResultType.FAILURE, e.getMessage());
+            }
+            return new Result(Result.ResultType.SUCCESS, viewport);
+        }
+    },
+    /**
+     * The Show board diff Command.
+     */
+    SHOW_BOARD_DIFF(CommandParserFireBreaker.SHOW_BOARD_DIFF, CommandSyntax.OPTIONAL_NUMBER) {
+        @Override
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
+            if (parsedCommand.getNumberOfNumbers() == 0) {
+                return new Result(Result.ResultType.SUCCESS, gameHandlerFireBreaker.showBoardDiffCommand());
+            }
+            return new Result(Result.ResultType.SUCCESS
+                    , gameHandlerFireBreaker.showBoardDiffCommand(parsedCommand.getNumber(0)));
+        }
+    },
+    /**
+     * The Save board Command.
+     */
+    SAVE_BOARD(CommandParserFireBreaker.SAVE_BOARD, CommandSyntax.PATH) {
+        @Override
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
+            String resultMessage;
+            try {
+                resultMessage = gameHandlerFireBreaker
+                        .saveBoardCommand(createPathOutOfInput(parsedCommand.getIdentifier()));
+            } catch (SemanticsException e) {
+                return new Result(Result.ResultType.FAILURE, e.getMessage());
+            }
+            return new Result(Result.ResultType.SUCCESS, resultMessage);
         }
     },
     /**
      * The Show field Command.
      */
-    SHOW_FIELD(CommandParserFireBreaker.SHOW_FIELD, CommandParserFireBreaker.REGEX_SHOW_FIELD) {
+    SHOW_FIELD(CommandParserFireBreaker.SHOW_FIELD, CommandSyntax.POSITION) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
-                resultMessage = gameHandlerFireBreaker.showFieldCommand(createPositionOutOfInput(parameters.get(0)
-                        , parameters.get(1)));
+                resultMessage = gameHandlerFireBreaker.showFieldCommand(createPositionOutOfInput(parsedCommand, 0));
             } catch (SemanticsException e) {
                 return new Result(Result.ResultType.FAILURE, e.getMessage());
             }
@@ -71,13 +113,13 @@ public enum Command {
     /**
      * The Extinguish Command.
      */
-    EXTINGUISH(CommandParserFireBreaker.EXTINGUISH, CommandParserFireBreaker.REGEX_EXTINGUISH) {
+    EXTINGUISH(CommandParserFireBreaker.EXTINGUISH, CommandSyntax.FIRE_BRIGADE_AND_POSITION) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
-                resultMessage = gameHandlerFireBreaker.extinguishCommand(parameters.get(0)
-                        , createPositionOutOfInput(parameters.get(1), parameters.get(2)));
+                resultMessage = gameHandlerFireBreaker.extinguishCommand(parsedCommand.getIdentifier()
+                        , createPositionOutOfInput(parsedCommand, 0));
             } catch (SemanticsException e) {
                 return new Result(Result.ResultType.FAILURE, e.getMessage());
             }
@@ -87,9 +129,9 @@ public enum Command {
     /**
      * The Show player Command.
      */
-    SHOW_PLAYER(CommandParserFireBreaker.SHOW_PLAYER, CommandParserFireBreaker.REGEX_SHOW_PLAYER) {
+    SHOW_PLAYER(CommandParserFireBreaker.SHOW_PLAYER, CommandSyntax.NONE) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
                 resultMessage = gameHandlerFireBreaker.showPlayerCommand();
@@ -102,13 +144,13 @@ public enum Command {
     /**
      * The Fire to roll Command.
      */
-    FIRE_TO_ROLL(CommandParserFireBreaker.FIRE_TO_ROLL, CommandParserFireBreaker.REGEX_FIRE_TO_ROLL) {
+    FIRE_TO_ROLL(CommandParserFireBreaker.FIRE_TO_ROLL, CommandSyntax.DICE) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
                 resultMessage = gameHandlerFireBreaker
-                        .fireToRollCommand(Command.createCardinalDirection(parameters.get(0)));
+                        .fireToRollCommand(Command.createCardinalDirection(parsedCommand.getNumber(0)));
             } catch (SemanticsException e) {
                 return new Result(Result.ResultType.FAILURE, e.getMessage());
             }
@@ -119,13 +161,13 @@ public enum Command {
     /**
      * The Buy fire engine Command.
      */
-    BUY_FIRE_ENGINE(CommandParserFireBreaker.BUY_FIRE_ENGINE, CommandParserFireBreaker.REGEX_BUY_FIRE_ENGINE) {
+    BUY_FIRE_ENGINE(CommandParserFireBreaker.BUY_FIRE_ENGINE, CommandSyntax.POSITION) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
                 resultMessage = gameHandlerFireBreaker.buyFireEngineCommand(Command.createPositionOutOfInput(
-                        parameters.get(0), parameters.get(1)));
+                        parsedCommand, 0));
             } catch (SemanticsException e) {
                 return new Result(Result.ResultType.FAILURE, e.getMessage());
             }
@@ -136,12 +178,12 @@ public enum Command {
     /**
      * The Refill Command.
      */
-    REFILL(CommandParserFireBreaker.REFILL, CommandParserFireBreaker.REGEX_REFILL) {
+    REFILL(CommandParserFireBreaker.REFILL, CommandSyntax.FIRE_BRIGADE) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
-                resultMessage = gameHandlerFireBreaker.refillFireBrigadeCommand(parameters.get(0));
+                resultMessage = gameHandlerFireBreaker.refillFireBrigadeCommand(parsedCommand.getIdentifier());
             } catch (SemanticsException e) {
                 return new Result(Result.ResultType.FAILURE, e.getMessage());
             }
@@ -152,9 +194,9 @@ public enum Command {
     /**
      * The PlayerManagement Command.
      */
-    TURN(CommandParserFireBreaker.TURN, CommandParserFireBreaker.REGEX_TURN) {
+    TURN(CommandParserFireBreaker.TURN, CommandSyntax.NONE) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             String resultMessage;
             try {
                 resultMessage = gameHandlerFireBreaker.turnCommand();
@@ -168,24 +210,26 @@ public enum Command {
     /**
      * The Reset Command.
      */
-    RESET(CommandParserFireBreaker.RESET, CommandParserFireBreaker.REGEX_RESET) {
+    RESET(CommandParserFireBreaker.RESET, CommandSyntax.NONE) {
         @Override
-        public Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker) {
+        public Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker) {
             return new Result(Result.ResultType.SUCCESS, gameHandlerFireBreaker.resetGameCommand());
         }
     };
 
+    private static final Map<String, Command> COMMANDS_BY_NAME = createCommandsByName();
+
     private final String commandName;
-    private final String regexOfTheCommand;
+    private final CommandSyntax syntax;
 
     /**
      * Constructor of a Command
      * @param commandName the name of the Command
-     * @param regexOfTheCommand the regex which corresponds to the Command.
+     * @param syntax the syntax of the parameters of the Command.
      */
-    Command(String commandName, String regexOfTheCommand) {
+    Command(String commandName, CommandSyntax syntax) {
         this.commandName = commandName;
-        this.regexOfTheCommand = regexOfTheCommand;
+        this.syntax = syntax;
     }
 
     /**
@@ -196,44 +240,56 @@ public enum Command {
      * @throws SyntaxException if there is no command corresponding to the string
      */
     public static Command getCommand(String commandName) throws SyntaxException {
-        for (Command command : Command.values()) {
-            if (command.commandName.equals(commandName)) return command;
-        }
-        throw new SyntaxException(Errors.COMMAND_NOT_IMPLEMENTED);
+        Command command = COMMANDS_BY_NAME.get(commandName);
+        if (command == null) throw new SyntaxException(Errors.COMMAND_NOT_IMPLEMENTED);
+        return command;
     }
 
     /**
-     * Gets regex of the command.
+     * Gets the syntax of the parameters of the command.
      *
-     * @return the regex of the command
+     * @return the syntax of the parameters
      */
-    public String getRegexOfTheCommand() {
-        return regexOfTheCommand;
+    public CommandSyntax getSyntax() {
+        return syntax;
     }
 
     /**
      * Executes a command with its parameters
      *
-     * @param parameters             the parameters
+     * @param parsedCommand          the parsed command holding the parameters
      * @param gameHandlerFireBreaker the fire-breaker database on which the command is performed.
      * @return a Result which documents if the command succeeded or not and the corresponding message.
      */
-    public abstract Result executeCommand(List<String> parameters, GameHandlerFireBreaker gameHandlerFireBreaker);
+    public abstract Result executeCommand(ParsedCommand parsedCommand, GameHandlerFireBreaker gameHandlerFireBreaker);
 
-    private static Position createPositionOutOfInput(String inputNumberOne, String inputNumberTwo)
+    private static Map<String, Command> createCommandsByName() {
+        Map<String, Command> commandsByName = new HashMap<>();
+        for (Command command : Command.values()) {
+            commandsByName.put(command.commandName, command);
+        }
+        return commandsByName;
+    }
+
+    private static Position createPositionOutOfInput(ParsedCommand parsedCommand, int indexOfXCoordinate)
             throws SemanticsException {
-        int xCoordinate;
-        int yCoordinate;
-        try {
-            xCoordinate = Integer.parseInt(inputNumberOne);
-            yCoordinate = Integer.parseInt(inputNumberTwo);
-        } catch (NumberFormatException e) {
+        long xCoordinate = parsedCommand.getNumber(indexOfXCoordinate);
+        long yCoordinate = parsedCommand.getNumber(indexOfXCoordinate + 1);
+        if (xCoordinate > Integer.MAX_VALUE || yCoordinate > Integer.MAX_VALUE) {
             throw new SemanticsException(Errors.POSITION_INVALID);
         }
-        return new Position(xCoordinate, yCoordinate);
+        return new Position((int) xCoordinate, (int) yCoordinate);
+    }
+
+    private static Path createPathOutOfInput(String inputPath) throws SemanticsException {
+        try {
+            return Path.of(inputPath);
+        } catch (InvalidPathException e) {
+            throw new SemanticsException(Errors.BOARD_FILE_NOT_WRITABLE);
+        }
     }
 
-    private static CardinalDirection createCardinalDirection(String direction) {
-        return CardinalDirection.findDirectionThroughInteger(Integer.parseInt(direction));
+    private static CardinalDirection createCardinalDirection(long direction) {
+        return CardinalDirection.findDirectionThroughInteger((int) direction);
     }
 }
@@ -0,0 +1,345 @@
+package edu.kit.stephan.firecracker.view.command;
+
+import edu.kit.stephan.firecracker.model.firebreaker.GameHandlerFireBreaker;
+import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
+import edu.kit.stephan.firecracker.model.resources.Errors;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class models an append-only binary journal of the commands, which changed the game.
+ * After a header with a magic number, the version and the size of the game board, every successfully executed
+ * command is one record of the opcode, the fire brigade as int and both numbers packed into a long, so a game can be
+ * rebuilt without parsing text. A failed command throws before it changes the game, so it is not recorded.
+ * Records are buffered and forced to the disk in groups, whenever the buffer is full and when the journal is closed.
+ * A committer thread forces the buffered records every {@value #GROUP_COMMIT_MILLIS} ms, so a record, whose result
+ * was already shown, waits at most that long, even if no other command follows it. A commit swaps in the second
+ * buffer and writes the first one without holding the buffers, so the session keeps appending during the force.
+ * The opcode is the ordinal of the {@link Command}, so reordering the commands needs a new version.
+ * Every given number of records a {@link GameCheckpoint} is taken, so a replay only needs the records after it.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class CommandJournal {
+    /**
+     * The size of the header and of every record in bytes.
+     */
+    public static final int RECORD_SIZE = Byte.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int MAGIC_NUMBER = 0x46434A4C;
+    private static final byte VERSION = 2;
+    private static final int RECORDS_PER_GROUP = 1 << 12;
+    private static final long SIZE_OF_REPLAY_WINDOW = (1L << 30) / RECORD_SIZE * RECORD_SIZE;
+    private static final long GROUP_COMMIT_MILLIS = 5;
+    private static final String NAME_OF_THREAD = "journal-committer";
+    private static final int NO_FIRE_BRIGADE = -1;
+    private static final int MAXIMUM_DIGITS_OF_FIRE_BRIGADE = 7;
+    private static final int BITS_OF_OWNER_SHIFT = 24;
+    private static final int NUMBER_OF_FIRE_BRIGADE_MASK = (1 << BITS_OF_OWNER_SHIFT) - 1;
+    private static final char FIRST_OWNER_OF_FIRE_BRIGADE = 'A';
+    private static final char FIRST_DIGIT = '0';
+    private static final long LOWER_HALF_MASK = 0xFFFFFFFFL;
+    private static final int BYTE_MASK = 0xFF;
+    private static final Command[] COMMANDS = Command.values();
+    private static final Set<Command> CHANGING_COMMANDS = EnumSet.of(Command.MOVE, Command.EXTINGUISH
+            , Command.FIRE_TO_ROLL, Command.BUY_FIRE_ENGINE, Command.REFILL, Command.TURN, Command.RESET);
+
+    /**
+     * The number of records between two checkpoints, if no other number is given.
+     */
+    public static final int DEFAULT_RECORDS_PER_CHECKPOINT = 1 << 16;
+
+    private final FileChannel channel;
+    /*
+    Guards the writes into the channel, the monitor of the journal only guards the swap of the buffers.
+     */
+    private final Object commitLock = new Object();
+    private ByteBuffer buffer;
+    private ByteBuffer spare;
+    private final GameBoard gameBoard;
+    private final GameHandlerFireBreaker gameHandlerFireBreaker;
+    private final GameCheckpoint checkpoint;
+    private final int recordsPerCheckpoint;
+    private final ScheduledExecutorService committer;
+    private int recordsSinceCheckpoint;
+    private boolean closed;
+    /*
+    A failure of the committer thread, thrown by the next call of the session.
+     */
+    private volatile UncheckedIOException failure;
+
+    private CommandJournal(FileChannel channel, GameBoard gameBoard, GameHandlerFireBreaker gameHandlerFireBreaker
+            , GameCheckpoint checkpoint, int recordsPerCheckpoint) {
+        this.channel = channel;
+        this.gameBoard = gameBoard;
+        this.gameHandlerFireBreaker = gameHandlerFireBreaker;
+        this.checkpoint = checkpoint;
+        this.recordsPerCheckpoint = recordsPerCheckpoint;
+        this.buffer = ByteBuffer.allocateDirect(RECORDS_PER_GROUP * RECORD_SIZE);
+        this.spare = ByteBuffer.allocateDirect(RECORDS_PER_GROUP * RECORD_SIZE);
+        this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, NAME_OF_THREAD);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a journal for a game board. Either a new journal is started, or an existing journal is continued
+     * after the records, which were replayed before.
+     *
+     * @param path                   the path of the journal
+     * @param gameBoard              the game board of the journal
+     * @param gameHandlerFireBreaker the game the checkpoints are taken of
+     * @param lengthToKeep           the length of the replayed journal in bytes, see {@link #replay},
+     *                               or 0 to start a new one
+     * @param recordsPerCheckpoint   the number of records between two checkpoints, 0 for no checkpoints
+     * @return the opened journal
+     * @throws SyntaxException if the journal could not be opened
+     */
+    public static CommandJournal open(Path path, GameBoard gameBoard, GameHandlerFireBreaker gameHandlerFireBreaker
+            , long lengthToKeep, int recordsPerCheckpoint) throws SyntaxException {
+        GameCheckpoint checkpoint = new GameCheckpoint(path);
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        } catch (IOException | UnsupportedOperationException e) {
+            throw new SyntaxException(Errors.JOURNAL_NOT_WRITABLE);
+        }
+        try {
+            /*
+            A record, which was torn by a crash, is cut off.
+             */
+            channel.truncate(lengthToKeep);
+            channel.position(lengthToKeep);
+            /*
+            The checkpoint of an older journal must not be restored with the new one.
+             */
+            if (lengthToKeep == 0) checkpoint.delete();
+        } catch (IOException e) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                /* The journal is not usable anyway. */
+            }
+            throw new SyntaxException(Errors.JOURNAL_NOT_WRITABLE);
+        }
+        CommandJournal journal = new CommandJournal(channel, gameBoard, gameHandlerFireBreaker, checkpoint
+                , recordsPerCheckpoint);
+        if (lengthToKeep == 0) {
+            journal.buffer.putInt(MAGIC_NUMBER)
+                    .put(VERSION)
+                    .putInt(gameBoard.getRowLength())
+                    .putInt(gameBoard.getColumnLength());
+            journal.commit();
+        }
+        journal.committer.scheduleWithFixedDelay(journal::commitBuffered, GROUP_COMMIT_MILLIS, GROUP_COMMIT_MILLIS
+                , TimeUnit.MILLISECONDS);
+        return journal;
+    }
+
+    /**
+     * Replays a journal on a game, the results are dropped. If the journal has a usable checkpoint, the game is
+     * restored out of it and only the records after it are replayed. A torn record at the end is ignored.
+     *
+     * @param path                   the path of the journal
+     * @param gameBoard              the game board the journal needs to belong to
+     * @param gameHandlerFireBreaker the game the commands are executed on
+     * @return the length of the replayed records including the header in bytes
+     * @throws SyntaxException if the journal could not be read or does not belong to the board
+     */
+    public static long replay(Path path, GameBoard gameBoard, GameHandlerFireBreaker gameHandlerFireBreaker)
+            throws SyntaxException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < RECORD_SIZE) throw new SyntaxException(Errors.JOURNAL_IS_CORRUPT);
+            long length = channel.size() - channel.size() % RECORD_SIZE;
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, RECORD_SIZE);
+            if (header.getInt() != MAGIC_NUMBER || header.get() != VERSION
+                    || header.getInt() != gameBoard.getRowLength() || header.getInt() != gameBoard.getColumnLength()) {
+                throw new SyntaxException(Errors.JOURNAL_IS_CORRUPT);
+            }
+            long position = Math.max(RECORD_SIZE
+                    , GameCheckpoint.restore(path, gameBoard, gameHandlerFireBreaker, length));
+            /*
+            A single mapping is limited to 2 GiB, so the records are mapped in windows, which end between records.
+             */
+            while (position < length) {
+                MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, position
+                        , Math.min(SIZE_OF_REPLAY_WINDOW, length - position));
+                replayRecords(records, gameHandlerFireBreaker);
+                position += records.capacity();
+            }
+            return length;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SyntaxException(Errors.JOURNAL_IS_CORRUPT);
+        }
+    }
+
+    /**
+     * Appends a successfully executed command. Commands, which can not have changed the game, are skipped.
+     *
+     * @param parsedCommand the successfully executed command
+     * @throws UncheckedIOException if the journal could not be written
+     */
+    public void append(ParsedCommand parsedCommand) {
+        if (failure != null) throw failure;
+        if (!canHaveChangedGame(parsedCommand)) return;
+        boolean isFull;
+        synchronized (this) {
+            buffer.put((byte) parsedCommand.getCommand().ordinal())
+                    .putInt(encodeFireBrigade(parsedCommand.getIdentifier()))
+                    .putLong(encodeNumbers(parsedCommand));
+            isFull = !buffer.hasRemaining();
+        }
+        if (isFull) commit();
+        recordsSinceCheckpoint++;
+        if (recordsSinceCheckpoint == recordsPerCheckpoint) {
+            /*
+            The records of the checkpoint are forced first, so a checkpoint never gets ahead of the journal.
+             */
+            checkpoint.write(gameBoard, gameHandlerFireBreaker, commit());
+            recordsSinceCheckpoint = 0;
+        }
+    }
+
+    /**
+     * Forces every appended record to the disk, waits for the last checkpoint and closes the journal.
+     *
+     * @throws UncheckedIOException if the journal could not be written
+     */
+    public void close() {
+        committer.shutdown();
+        synchronized (commitLock) {
+            closed = true;
+            commit();
+            checkpoint.close();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (failure != null) throw failure;
+        }
+    }
+
+    /*
+    Called by the committer thread.
+     */
+    private void commitBuffered() {
+        synchronized (commitLock) {
+            if (closed || failure != null) return;
+            try {
+                commit();
+            } catch (UncheckedIOException e) {
+                failure = e;
+            }
+        }
+    }
+
+    /*
+    Writes and forces the buffered records, returns the length of the journal after them.
+    Only one commit runs at a time, so the spare buffer is always empty when it is swapped in.
+     */
+    private long commit() {
+        synchronized (commitLock) {
+            ByteBuffer records;
+            synchronized (this) {
+                records = buffer;
+                buffer = spare;
+                spare = records;
+            }
+            try {
+                if (records.position() > 0) {
+                    records.flip();
+                    while (records.hasRemaining()) {
+                        channel.write(records);
+                    }
+                    channel.force(false);
+                }
+                return channel.position();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                records.clear();
+            }
+        }
+    }
+
+    /*
+    A fire brigade which is not written like the game names it does not exist, and coordinates which do not fit
+    into an int are rejected before the game sees them, in both cases the game stayed the same.
+     */
+    private static boolean canHaveChangedGame(ParsedCommand parsedCommand) {
+        if (!CHANGING_COMMANDS.contains(parsedCommand.getCommand())) return false;
+        String identifier = parsedCommand.getIdentifier();
+        if (identifier != null) {
+            int digits = identifier.length() - 1;
+            if (digits > MAXIMUM_DIGITS_OF_FIRE_BRIGADE || digits > 1 && identifier.charAt(1) == FIRST_DIGIT) {
+                return false;
+            }
+        }
+        for (int i = 0; i < parsedCommand.getNumberOfNumbers(); i++) {
+            if (parsedCommand.getNumber(i) > Integer.MAX_VALUE) return false;
+        }
+        return true;
+    }
+
+    private static void replayRecords(ByteBuffer records, GameHandlerFireBreaker gameHandlerFireBreaker)
+            throws SyntaxException {
+        while (records.hasRemaining()) {
+            ParsedCommand parsedCommand = readRecord(records.get() & BYTE_MASK, records);
+            parsedCommand.getCommand().executeCommand(parsedCommand, gameHandlerFireBreaker);
+        }
+    }
+
+    private static ParsedCommand readRecord(int opcode, ByteBuffer records) throws SyntaxException {
+        int fireBrigade = records.getInt();
+        long numbers = records.getLong();
+        if (opcode >= COMMANDS.length || !CHANGING_COMMANDS.contains(COMMANDS[opcode])) {
+            throw new SyntaxException(Errors.JOURNAL_IS_CORRUPT);
+        }
+        Command command = COMMANDS[opcode];
+        String identifier = fireBrigade == NO_FIRE_BRIGADE ? null
+                : (char) (FIRST_OWNER_OF_FIRE_BRIGADE + (fireBrigade >>> BITS_OF_OWNER_SHIFT))
+                + Integer.toString(fireBrigade & NUMBER_OF_FIRE_BRIGADE_MASK);
+        switch (command.getSyntax()) {
+            case FIRE_BRIGADE_AND_POSITION:
+            case POSITION:
+                return new ParsedCommand(command, identifier, new long[] {numbers >>> Integer.SIZE
+                        , numbers & LOWER_HALF_MASK});
+            case DICE:
+                return new ParsedCommand(command, identifier, new long[] {numbers});
+            default:
+                return new ParsedCommand(command, identifier, new long[0]);
+        }
+    }
+
+    private static int encodeFireBrigade(String identifier) {
+        if (identifier == null) return NO_FIRE_BRIGADE;
+        return (identifier.charAt(0) - FIRST_OWNER_OF_FIRE_BRIGADE) << BITS_OF_OWNER_SHIFT
+                | Integer.parseInt(identifier.substring(1));
+    }
+
+    private static long encodeNumbers(ParsedCommand parsedCommand) {
+        switch (parsedCommand.getNumberOfNumbers()) {
+            case 0:
+                return 0;
+            case 1:
+                return parsedCommand.getNumber(0);
+            default:
+                return parsedCommand.getNumber(0) << Integer.SIZE | parsedCommand.getNumber(1);
+        }
+    }
+}
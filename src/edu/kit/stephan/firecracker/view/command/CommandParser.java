@@ -1,13 +1,10 @@
 package edu.kit.stephan.firecracker.view.command;
 
 import edu.kit.stephan.firecracker.model.resources.SyntaxException;
-import edu.kit.stephan.firecracker.core.Pair;
-
-import java.util.List;
 
 /**
  * This interface describes a parser for commands.
- * The parser parses a string into a command name and a List of parameters.
+ * The parser parses a string into a command and its parameters.
  *
  * @author Lucas Alber
  * @author Johannes Stephan
@@ -15,12 +12,11 @@ import java.util.List;
  */
 public interface CommandParser {
     /**
-     * Parses the given string into a {@link Pair} of command name and a List of parameters.
+     * Parses the given string into a {@link ParsedCommand}.
      *
      * @param input the input string
-     * @return a {@link Pair} of command name and a List of parameters as string representation.
-     * Returns the parsed String
+     * @return the command and its parameters.
      * @throws SyntaxException if the String could not be parsed
      */
-    Pair<String, List<String>> parseCommand(String input) throws SyntaxException;
+    ParsedCommand parseCommand(String input) throws SyntaxException;
 }
@@ -3,16 +3,13 @@ package edu.kit.stephan.firecracker.view.command;
 
 import edu.kit.stephan.firecracker.model.resources.Errors;
 import edu.kit.stephan.firecracker.model.resources.SyntaxException;
-import edu.kit.stephan.firecracker.core.Pair;
-
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
 
 
 /**
  * This class represents a Command Parser, which has the purpose to check the Validation of the Syntax and handles
- * the conversion of the inputted String
+ * the conversion of the inputted String.
+ * The command is looked up by its name and its parameters are checked and converted in one pass over the input,
+ * see {@link CommandSyntax}. The parser keeps the state of the current input, so it must not be shared by threads.
  *
  * @author Johannes Stephan
  * @version 1.0
@@ -56,6 +53,14 @@ public class CommandParserFireBreaker implements CommandParser {
      * String representation of ShowBoard Command
      */
     public static final String SHOW_BOARD = "show-board";
+    /**
+     * String representation of ShowBoardDiff Command
+     */
+    public static final String SHOW_BOARD_DIFF = "show-board-diff";
+    /**
+     * String representation of SaveBoard Command
+     */
+    public static final String SAVE_BOARD = "save-board";
     /**
      * String representation of ShowField Command
      */
@@ -66,85 +71,151 @@ public class CommandParserFireBreaker implements CommandParser {
     public static final String SHOW_PLAYER = "show-player";
 
 
-    private static final String SPACE = " ";
-    /**
-     * The regex of the move command.
-     */
-    public static final String REGEX_MOVE = MOVE + SPACE +  "[A-D][0-9]+,[0-9]+,[0-9]+";
-    /**
-     * The regex of the extinguish command.
-     */
-    public static final String REGEX_EXTINGUISH = EXTINGUISH + SPACE + "[A-D][0-9]+,[0-9]+,[0-9]+";
-    /**
-     * The regex of the refill command.
-     */
-    public static final String REGEX_REFILL = REFILL + SPACE + "[A-D][0-9]+";
-    /**
-     * The regex of the buy-fire-engine command.
-     */
-    public static final String REGEX_BUY_FIRE_ENGINE = BUY_FIRE_ENGINE + SPACE + "[0-9]+,[0-9]+";
-    /**
-     * The regex of the fire-to-roll command.
-     */
-    public static final String REGEX_FIRE_TO_ROLL = FIRE_TO_ROLL + SPACE + "[1-6]";
-    /**
-     * The regex of the turn command.
-     */
-    public static final String REGEX_TURN = TURN;
-    /**
-     * The regex of the reset command.
-     */
-    public static final String REGEX_RESET = RESET;
-    /**
-     * The regex of the show-board command.
-     */
-    public static final String REGEX_SHOW_BOARD = SHOW_BOARD;
-    /**
-     * The regex of the show-field command.
-     */
-    public static final String REGEX_SHOW_FIELD = SHOW_FIELD + SPACE + "[0-9]+,[0-9]+";
-    /**
-     * The regex of the show-player command.
-     */
-    public static final String REGEX_SHOW_PLAYER = SHOW_PLAYER;
-    /**
-     * The regex of the quit command.
-     */
-    public static final String REGEX_QUIT = QUIT;
-
+    private static final char SPACE = ' ';
+    private static final char PARAMETER_SEPARATOR = ',';
+    private static final char FIRST_DIGIT = '0';
+    private static final char LAST_DIGIT = '9';
+    private static final char FIRST_OWNER_OF_FIRE_BRIGADE = 'A';
+    private static final char LAST_OWNER_OF_FIRE_BRIGADE = 'D';
+    private static final char LOWEST_DICE_VALUE = '1';
+    private static final char HIGHEST_DICE_VALUE = '6';
+    private static final int BASE_OF_NUMBERS = 10;
+    private static final int NUMBERS_OF_POSITION = 2;
+    private static final int NUMBERS_OF_RECTANGLE = 4;
+    private static final long[] NO_NUMBERS = new long[0];
 
+    private String input;
+    private int position;
 
     @Override
-    public Pair<String, List<String>> parseCommand(String inputUser) throws SyntaxException {
-        checkBasicRegex(inputUser);
-        String commandValue = inputUser.split(SPACE)[0];
+    public ParsedCommand parseCommand(String inputUser) throws SyntaxException {
+        if (inputUser.isEmpty() || inputUser.charAt(0) == SPACE) throw new SyntaxException(Errors.SYNTAX_ERROR);
+        int endOfName = inputUser.indexOf(SPACE);
+        Command command = Command.getCommand(endOfName < 0 ? inputUser : inputUser.substring(0, endOfName));
+        input = inputUser;
+        position = endOfName < 0 ? inputUser.length() : endOfName;
+        return parseParameters(command);
+    }
 
-        return new Pair<>(checkCommand(commandValue, inputUser), createParameters(inputUser, commandValue));
+    private ParsedCommand parseParameters(Command command) throws SyntaxException {
+        String identifier = null;
+        long[] numbers = NO_NUMBERS;
+        switch (command.getSyntax()) {
+            case NONE:
+                break;
+            case FIRE_BRIGADE:
+                readSpace();
+                identifier = readFireBrigade();
+                break;
+            case FIRE_BRIGADE_AND_POSITION:
+                readSpace();
+                identifier = readFireBrigade();
+                readSeparator();
+                numbers = readNumbers(NUMBERS_OF_POSITION);
+                break;
+            case POSITION:
+                readSpace();
+                numbers = readNumbers(NUMBERS_OF_POSITION);
+                break;
+            case DICE:
+                readSpace();
+                numbers = new long[] {readDice()};
+                break;
+            case OPTIONAL_RECTANGLE:
+                if (hasMoreInput()) {
+                    readSpace();
+                    numbers = readNumbers(NUMBERS_OF_RECTANGLE);
+                }
+                break;
+            case OPTIONAL_NUMBER:
+                if (hasMoreInput()) {
+                    readSpace();
+                    numbers = readNumbers(1);
+                }
+                break;
+            case PATH:
+                readSpace();
+                identifier = readPath();
+                break;
+            default:
+                throw new IllegalStateException(Errors.NOT_IMPLEMENTED);
+        }
+        if (hasMoreInput()) throw new SyntaxException(Errors.SYNTAX_ERROR);
+        return new ParsedCommand(command, identifier, numbers);
+    }
 
+    private boolean hasMoreInput() {
+        return position < input.length();
     }
 
-    private List<String> createParameters(String inputUser, String commandValue) {
-        String modifiedInput = inputUser.substring(commandValue.length());
-        if (modifiedInput.equals("")) {
-            return new LinkedList<>();
-        }
+    private void readSpace() throws SyntaxException {
+        readCharacter(SPACE);
+    }
+
+    private void readSeparator() throws SyntaxException {
+        readCharacter(PARAMETER_SEPARATOR);
+    }
 
-        String[] outputAsStringArray = modifiedInput.substring(1).split(",");
-        return new LinkedList<>(Arrays.asList(outputAsStringArray));
+    private void readCharacter(char expected) throws SyntaxException {
+        if (!hasMoreInput() || input.charAt(position) != expected) throw new SyntaxException(Errors.SYNTAX_ERROR);
+        position++;
     }
 
-    private void checkBasicRegex(String inputUser) throws SyntaxException {
-        if (inputUser.isEmpty()) throw new SyntaxException(Errors.SYNTAX_ERROR);
-        if (inputUser.charAt(0) == ' ') {
+    private String readFireBrigade() throws SyntaxException {
+        int start = position;
+        if (!hasMoreInput() || input.charAt(position) < FIRST_OWNER_OF_FIRE_BRIGADE
+                || input.charAt(position) > LAST_OWNER_OF_FIRE_BRIGADE) {
             throw new SyntaxException(Errors.SYNTAX_ERROR);
         }
+        position++;
+        readNumber();
+        return input.substring(start, position);
     }
 
+    private long[] readNumbers(int numberOfNumbers) throws SyntaxException {
+        long[] numbers = new long[numberOfNumbers];
+        for (int i = 0; i < numberOfNumbers; i++) {
+            if (i > 0) readSeparator();
+            numbers[i] = readNumber();
+        }
+        return numbers;
+    }
+
+    private long readNumber() throws SyntaxException {
+        int start = position;
+        long number = 0;
+        while (hasMoreInput() && isDigit(input.charAt(position))) {
+            int digit = input.charAt(position) - FIRST_DIGIT;
+            /*
+            Saturate, a number which does not fit is invalid for every command anyway.
+             */
+            number = number > (Long.MAX_VALUE - digit) / BASE_OF_NUMBERS ? Long.MAX_VALUE
+                    : number * BASE_OF_NUMBERS + digit;
+            position++;
+        }
+        if (position == start) throw new SyntaxException(Errors.SYNTAX_ERROR);
+        return number;
+    }
 
-    private String checkCommand(String command, String userInput) throws SyntaxException {
-        if (userInput.matches(Command.getCommand(command).getRegexOfTheCommand())) {
-            return command;
+    private long readDice() throws SyntaxException {
+        if (!hasMoreInput() || input.charAt(position) < LOWEST_DICE_VALUE
+                || input.charAt(position) > HIGHEST_DICE_VALUE) {
+            throw new SyntaxException(Errors.SYNTAX_ERROR);
         }
-        throw new SyntaxException(Errors.SYNTAX_ERROR);
+        position++;
+        return input.charAt(position - 1) - FIRST_DIGIT;
+    }
+
+    private String readPath() throws SyntaxException {
+        int start = position;
+        while (hasMoreInput() && input.charAt(position) != PARAMETER_SEPARATOR) {
+            position++;
+        }
+        if (position == start) throw new SyntaxException(Errors.SYNTAX_ERROR);
+        return input.substring(start, position);
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= FIRST_DIGIT && character <= LAST_DIGIT;
     }
 }
@@ -0,0 +1,43 @@
+package edu.kit.stephan.firecracker.view.command;
+
+/**
+ * The Enum which describes the syntax of the parameters following the name of a command.
+ * A number is a sequence of digits, a fire brigade is the owner A-D followed by a number.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public enum CommandSyntax {
+    /**
+     * No parameters.
+     */
+    NONE,
+    /**
+     * A fire brigade, for example "A0".
+     */
+    FIRE_BRIGADE,
+    /**
+     * A fire brigade and a position, for example "A0,1,2".
+     */
+    FIRE_BRIGADE_AND_POSITION,
+    /**
+     * A position, for example "1,2".
+     */
+    POSITION,
+    /**
+     * A single digit from one to six.
+     */
+    DICE,
+    /**
+     * Either no parameters or a rectangle of two positions, for example "0,0,2,3".
+     */
+    OPTIONAL_RECTANGLE,
+    /**
+     * Either no parameters or a single number.
+     */
+    OPTIONAL_NUMBER,
+    /**
+     * A path, which is not empty and does not contain the parameter separator.
+     */
+    PATH
+}
@@ -0,0 +1,224 @@
+package edu.kit.stephan.firecracker.view.command;
+
+import edu.kit.stephan.firecracker.model.firebreaker.GameHandlerFireBreaker;
+import edu.kit.stephan.firecracker.model.firebreaker.board.GameBoard;
+import edu.kit.stephan.firecracker.model.resources.SyntaxException;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class models the checkpoints of a command journal. A checkpoint holds the whole state of the game after
+ * a length of the journal, so a recovery only needs to replay the records after it.
+ * The state is copied into memory by the thread executing the commands, writing the copy to the disk happens on
+ * a writer thread. If the writer is slower than the checkpoints are taken, only the newest waiting one is written.
+ * A checkpoint is written next to the journal and moved over the old one, so there is always a complete one.
+ * The copy is kept in chunks, so the state of a board with almost {@link Integer#MAX_VALUE} fields fits as well.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class GameCheckpoint {
+    private static final int MAGIC_NUMBER = 0x46434350;
+    private static final byte VERSION = 1;
+    private static final String SUFFIX_OF_CHECKPOINT = ".checkpoint";
+    private static final String SUFFIX_OF_TEMPORARY_CHECKPOINT = ".tmp";
+    private static final String NAME_OF_THREAD = "checkpoint-writer";
+    private static final int SIZE_OF_STATE_WITHOUT_FIELDS = 1 << 12;
+    private static final int SIZE_OF_CHUNK = 1 << 20;
+    private static final int SIZE_OF_READ_BUFFER = 1 << 16;
+
+    private final Path path;
+    private final Path temporaryPath;
+    private final ExecutorService writer;
+    private final AtomicReference<ByteBuffer[]> waitingCheckpoint;
+
+    /**
+     * Instantiates the checkpoints of a journal.
+     *
+     * @param journal the path of the journal
+     */
+    public GameCheckpoint(Path journal) {
+        this.path = pathOf(journal);
+        this.temporaryPath = path.resolveSibling(path.getFileName() + SUFFIX_OF_TEMPORARY_CHECKPOINT);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, NAME_OF_THREAD);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.waitingCheckpoint = new AtomicReference<>();
+    }
+
+    /**
+     * Deletes the checkpoint, because the journal is started again.
+     *
+     * @throws IOException if the checkpoint could not be deleted
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Copies the state of the game and writes it on the writer thread.
+     *
+     * @param gameBoard              the game board of the game
+     * @param gameHandlerFireBreaker the game
+     * @param lengthOfJournal        the length of the journal in bytes, which led to the state
+     */
+    public void write(GameBoard gameBoard, GameHandlerFireBreaker gameHandlerFireBreaker, long lengthOfJournal) {
+        ChunkedOutputStream checkpoint = new ChunkedOutputStream((int) Math.min(SIZE_OF_CHUNK
+                , (long) gameBoard.getRowLength() * gameBoard.getColumnLength() + SIZE_OF_STATE_WITHOUT_FIELDS));
+        DataOutputStream output = new DataOutputStream(checkpoint);
+        try {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeByte(VERSION);
+            output.writeInt(gameBoard.getRowLength());
+            output.writeInt(gameBoard.getColumnLength());
+            output.writeLong(lengthOfJournal);
+            gameHandlerFireBreaker.writeCheckpoint(output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (waitingCheckpoint.getAndSet(checkpoint.toBuffers()) == null) writer.execute(this::writeWaiting);
+    }
+
+    /**
+     * Waits until the last checkpoint is written and stops the writer thread.
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Restores the game out of the checkpoint of a journal, if there is a usable one.
+     * If the checkpoint is corrupt, the game is reset, so the whole journal can be replayed instead.
+     *
+     * @param journal                the path of the journal
+     * @param gameBoard              the game board of the game
+     * @param gameHandlerFireBreaker the game
+     * @param lengthOfJournal        the length of the complete records of the journal in bytes
+     * @return the length of the journal the game was restored to, or 0 if there was no usable checkpoint
+     */
+    public static long restore(Path journal, GameBoard gameBoard, GameHandlerFireBreaker gameHandlerFireBreaker
+            , long lengthOfJournal) {
+        Path path = pathOf(journal);
+        if (!Files.isRegularFile(path)) return 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)
+                , SIZE_OF_READ_BUFFER))) {
+            if (input.readInt() != MAGIC_NUMBER || input.readByte() != VERSION
+                    || input.readInt() != gameBoard.getRowLength() || input.readInt() != gameBoard.getColumnLength()) {
+                return 0;
+            }
+            long restoredLength = input.readLong();
+            /*
+            The journal was forced before the checkpoint was taken, so a longer checkpoint belongs to another journal.
+             */
+            if (restoredLength < CommandJournal.RECORD_SIZE || restoredLength > lengthOfJournal
+                    || restoredLength % CommandJournal.RECORD_SIZE != 0) {
+                return 0;
+            }
+            gameHandlerFireBreaker.readCheckpoint(input);
+            if (input.read() >= 0) throw new IOException();
+            return restoredLength;
+        } catch (IOException | SyntaxException e) {
+            gameHandlerFireBreaker.resetGameCommand();
+            return 0;
+        }
+    }
+
+    private void writeWaiting() {
+        ByteBuffer[] checkpoint = waitingCheckpoint.getAndSet(null);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE
+                , StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (ByteBuffer buffer : checkpoint) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            /*
+            A missing checkpoint only makes the recovery replay more of the journal.
+             */
+            return;
+        }
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ignored) {
+            /* The older checkpoint stays usable. */
+        }
+    }
+
+    private static Path pathOf(Path journal) {
+        return journal.resolveSibling(journal.getFileName() + SUFFIX_OF_CHECKPOINT);
+    }
+
+    /**
+     * This class models an output stream into memory, which grows by chunks instead of copying one array,
+     * so its size is not limited to the size of an array.
+     */
+    private static final class ChunkedOutputStream extends OutputStream {
+        private final List<byte[]> chunks = new ArrayList<>();
+        private byte[] chunk;
+        private int position;
+
+        private ChunkedOutputStream(int sizeOfFirstChunk) {
+            this.chunk = new byte[sizeOfFirstChunk];
+            chunks.add(chunk);
+        }
+
+        @Override
+        public void write(int value) {
+            if (position == chunk.length) nextChunk();
+            chunk[position++] = (byte) value;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            int written = 0;
+            while (written < length) {
+                if (position == chunk.length) nextChunk();
+                int size = Math.min(length - written, chunk.length - position);
+                System.arraycopy(bytes, offset + written, chunk, position, size);
+                position += size;
+                written += size;
+            }
+        }
+
+        private void nextChunk() {
+            chunk = new byte[SIZE_OF_CHUNK];
+            chunks.add(chunk);
+            position = 0;
+        }
+
+        private ByteBuffer[] toBuffers() {
+            ByteBuffer[] buffers = new ByteBuffer[chunks.size()];
+            for (int i = 0; i < buffers.length; i++) {
+                buffers[i] = ByteBuffer.wrap(chunks.get(i), 0, i == buffers.length - 1 ? position
+                        : chunks.get(i).length);
+            }
+            return buffers;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package edu.kit.stephan.firecracker.view.command;
+
+/**
+ * This class models a command, which was parsed but not executed yet.
+ * The numeric parameters are kept as primitives, a number which does not fit into a long is stored as
+ * {@link Long#MAX_VALUE}.
+ *
+ * @author Johannes Stephan
+ * @version 1.0
+ */
+public class ParsedCommand {
+    private final Command command;
+    private final String identifier;
+    private final long[] numbers;
+
+    /**
+     * Instantiates a new parsed command.
+     *
+     * @param command    the command
+     * @param identifier the fire brigade or path parameter, or {@code null} if there is none
+     * @param numbers    the numeric parameters in their order
+     */
+    public ParsedCommand(Command command, String identifier, long[] numbers) {
+        this.command = command;
+        this.identifier = identifier;
+        this.numbers = numbers;
+    }
+
+    /**
+     * Gets the command.
+     *
+     * @return the command
+     */
+    public Command getCommand() {
+        return command;
+    }
+
+    /**
+     * Gets the fire brigade or path parameter.
+     *
+     * @return the identifier or {@code null} if there is none
+     */
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * Gets the number of numeric parameters.
+     *
+     * @return the number of numeric parameters
+     */
+    public int getNumberOfNumbers() {
+        return numbers.length;
+    }
+
+    /**
+     * Gets a numeric parameter.
+     *
+     * @param index the index of the numeric parameter
+     * @return the numeric parameter
+     */
+    public long getNumber(int index) {
+        return numbers[index];
+    }
+}
@@ -4,6 +4,8 @@
 
 package edu.kit.stephan.firecracker.view.command;
 
+import edu.kit.stephan.firecracker.core.Renderable;
+
 /**
  * This class describes a result of a command execution.
  *
@@ -15,6 +17,7 @@ public class Result {
 
     private final ResultType type;
     private final String message;
+    private final Renderable renderable;
 
     /**
      * Constructs a new Result without message.
@@ -22,7 +25,7 @@ public class Result {
      * @param type the type of the result.
      */
     public Result(final ResultType type) {
-        this(type, null);
+        this(type, (String) null);
     }
 
     /**
@@ -34,6 +37,19 @@ public class Result {
     public Result(final ResultType type, final String message) {
         this.type = type;
         this.message = message;
+        this.renderable = null;
+    }
+
+    /**
+     * Constructs a new Result, which carries an output that gets rendered when it is outputted.
+     *
+     * @param type       the type of the result.
+     * @param renderable the output to carry
+     */
+    public Result(final ResultType type, final Renderable renderable) {
+        this.type = type;
+        this.message = null;
+        this.renderable = renderable;
     }
 
     /**
@@ -54,6 +70,15 @@ public class Result {
         return this.message;
     }
 
+    /**
+     * Returns the carried renderable output of the result or {@code null} if there is none.
+     *
+     * @return the renderable or {@code null}
+     */
+    public Renderable getRenderable() {
+        return this.renderable;
+    }
+
 
     /**
      * The type of Result of a execution.